@@ -0,0 +1,74 @@
+package com.rv.band_manager.Benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.rv.band_manager.BandManagerApplication;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark state that starts an embedded PostgreSQL, boots the application against it
+ * and fills it with the generated data set once per fork.
+ */
+@State(Scope.Benchmark)
+public class BandManagerState {
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Starts the database and the application, then generates the data.
+     *
+     * @throws IOException if the embedded database cannot be started
+     */
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        start(new String[0]);
+    }
+
+    /**
+     * Starts the database and the application with extra properties, then generates the data.
+     *
+     * @param properties the properties to set on the application, as key=value pairs overriding application.properties
+     * @throws IOException if the embedded database cannot be started
+     */
+    public void start(String... properties) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        // Passed as command line arguments, which take precedence over application.properties,
+        // unlike SpringApplicationBuilder.properties(), which only sets defaults
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        context = new SpringApplicationBuilder(BandManagerApplication.class).run(args.toArray(String[]::new));
+        new DataGenerator(context.getBean(JdbcTemplate.class)).generate();
+    }
+
+    /**
+     * Stops the application and the database.
+     *
+     * @throws IOException if the embedded database cannot be stopped
+     */
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
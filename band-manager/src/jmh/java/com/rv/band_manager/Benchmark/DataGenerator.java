@@ -0,0 +1,131 @@
+package com.rv.band_manager.Benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.rv.band_manager.Model.OrderStatus;
+
+/**
+ * Fills an empty band manager schema with a fixed, reproducible data set for the benchmarks.
+ * Rows are generated in the database with generate_series, so IDs run from 1 to the row count of each table.
+ */
+public class DataGenerator {
+    public static final int USERS = 5_000;
+    public static final int BANDS = 20;
+    public static final int MUSIC_SETS = 1_000;
+    public static final int PARTS_PER_SET = 8;
+    public static final int PERFORMANCES = 500;
+    public static final int ORDERS = 10_000;
+    public static final int INSTRUMENTS = 2_000;
+    public static final int MISCELLANEOUS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new DataGenerator.
+     *
+     * @param jdbcTemplate the template connected to the schema to fill
+     */
+    public DataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Generates users, bands, music, performances, orders and loans.
+     */
+    public void generate() {
+        //Users, each a member of one band
+        jdbcTemplate.update("INSERT INTO bands (name) SELECT 'Band ' || g FROM generate_series(1, ?) g", BANDS);
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, phone_number, full_name)
+                SELECT 'user' || g || '@example.com', 'password', '0000000000', 'User ' || g
+                FROM generate_series(1, ?) g
+                """, USERS);
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, roles) SELECT id, 'MEMBER' FROM users");
+        jdbcTemplate.update("INSERT INTO band_member (user_id, band_id) SELECT id, id % ? + 1 FROM users", BANDS);
+
+        //Music sets, each practised by one band, with their parts
+        jdbcTemplate.update("""
+                INSERT INTO music_sets (title, composer, arranger, suitable_for_training)
+                SELECT 'Set ' || g, 'Composer ' || g % 50, 'Arranger ' || g % 20, g % 4 = 0
+                FROM generate_series(1, ?) g
+                """, MUSIC_SETS);
+        jdbcTemplate.update("INSERT INTO practice (music_set_id, band_id) SELECT id, id % ? + 1 FROM music_sets", BANDS);
+        jdbcTemplate.update("""
+                INSERT INTO music_parts (part_name, music_set_id)
+                SELECT 'Part ' || p, s.id FROM music_sets s CROSS JOIN generate_series(1, ?) p
+                """, PARTS_PER_SET);
+
+        //Performances with two bands each, a playlist and a roster of both bands
+        jdbcTemplate.update("""
+                INSERT INTO performances (location, date, time)
+                SELECT 'Venue ' || g, CURRENT_DATE + g, TIME '19:00' FROM generate_series(1, ?) g
+                """, PERFORMANCES);
+        jdbcTemplate.update("""
+                INSERT INTO performance_bands (band_id, performance_id)
+                SELECT id % ? + 1, id FROM performances
+                UNION SELECT (id + 1) % ? + 1, id FROM performances
+                """, BANDS, BANDS);
+        jdbcTemplate.update("""
+                INSERT INTO performance_musics (performance_id, music_set_id)
+                SELECT id, id % ? + 1 FROM performances
+                """, MUSIC_SETS);
+        jdbcTemplate.update("""
+                INSERT INTO performance_members (user_id, band_id, performance_id, availability)
+                SELECT bm.user_id, bm.band_id, pb.performance_id, bm.user_id % 2 = 0
+                FROM performance_bands pb JOIN band_member bm ON bm.band_id = pb.band_id
+                """);
+
+        //Music orders, a quarter of them fulfilled, each for one part, with statuses as OrderStatus codes
+        jdbcTemplate.update("""
+                INSERT INTO music_orders (owner_id, date, status)
+                SELECT g % ? + 1, CURRENT_DATE - g % 365,
+                    CASE g % 4 WHEN 0 THEN ? WHEN 1 THEN ? ELSE ? END
+                FROM generate_series(1, ?) g
+                """, USERS, OrderStatus.FULFILLED.getCode(), OrderStatus.READY.getCode(),
+                OrderStatus.NOT_READY.getCode(), ORDERS);
+        jdbcTemplate.update("""
+                INSERT INTO music_part_orders (music_order_id, music_part_id)
+                SELECT id, id % ? + 1 FROM music_orders
+                """, MUSIC_SETS * PARTS_PER_SET);
+
+        //Instruments, half of them on loan
+        jdbcTemplate.update("""
+                INSERT INTO instruments (serial_number, name, make)
+                SELECT 'SN' || g, 'Instrument ' || g % 30, 'Make ' || g % 10 FROM generate_series(1, ?) g
+                """, INSTRUMENTS);
+        jdbcTemplate.update("""
+                INSERT INTO instrument_loans (user_id, instrument_id, date, returned)
+                SELECT id % ? + 1, id, CURRENT_DATE, FALSE FROM instruments WHERE id % 2 = 0
+                """, USERS);
+
+        //Miscellaneous items with open and returned loans, and their on-loan counters
+        jdbcTemplate.update("""
+                INSERT INTO miscellaneous (name, make, quantity, specific_for_instrument, on_loan_quantity)
+                SELECT 'Item ' || g, 'Make ' || g % 10, 50, 'Instrument ' || g % 30, 0 FROM generate_series(1, ?) g
+                """, MISCELLANEOUS);
+        jdbcTemplate.update("""
+                INSERT INTO miscellaneous_loans (user_id, miscellaneous_id, date, quantity, returned)
+                SELECT g % ? + 1, g % ? + 1, CURRENT_DATE, 1, g % 3 = 0 FROM generate_series(1, ?) g
+                """, USERS, MISCELLANEOUS, MISCELLANEOUS * 10);
+        jdbcTemplate.update("""
+                UPDATE miscellaneous m SET on_loan_quantity = l.loaned
+                FROM (SELECT miscellaneous_id, SUM(quantity) AS loaned FROM miscellaneous_loans
+                      WHERE returned = FALSE GROUP BY miscellaneous_id) l
+                WHERE l.miscellaneous_id = m.id
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Adds fulfilled music orders from past years, spread over all users, to grow the order history.
+     *
+     * @param count the number of orders to add
+     */
+    public void addFulfilledMusicOrders(int count) {
+        jdbcTemplate.update("""
+                INSERT INTO music_orders (owner_id, date, status)
+                SELECT g % ? + 1, CURRENT_DATE - 365 - g % 3650, ?
+                FROM generate_series(1, ?) g
+                """, USERS, OrderStatus.FULFILLED.getCode(), count);
+        jdbcTemplate.execute("ANALYZE music_orders");
+    }
+}
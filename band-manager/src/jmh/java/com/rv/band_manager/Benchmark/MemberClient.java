@@ -0,0 +1,73 @@
+package com.rv.band_manager.Benchmark;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP client signed in to the booted application as a generated member, for the benchmarks that go through the web layer.
+ */
+public class MemberClient {
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .cookieHandler(new CookieManager())
+            .build();
+    private final String baseUrl;
+
+    /**
+     * Constructs a new MemberClient.
+     *
+     * @param port the port the application listens on
+     */
+    public MemberClient(String port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * Posts the login form with the CSRF token of the login page, leaving the session cookie in the client.
+     *
+     * @param email the email of the member
+     * @param password the member's password
+     * @throws IOException if the login page cannot be fetched or has no CSRF token
+     * @throws InterruptedException if the sign in is interrupted
+     */
+    public void signIn(String email, String password) throws IOException, InterruptedException {
+        Matcher token = CSRF_TOKEN.matcher(get("/login").body());
+        if (!token.find()) {
+            throw new IllegalStateException("No CSRF token on the login page");
+        }
+        String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8)
+                + "&_csrf=" + URLEncoder.encode(token.group(1), StandardCharsets.UTF_8);
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * Fetches a path and fails on anything but a 200 response, such as a redirect to the login page.
+     *
+     * @param path the path to fetch
+     * @return the response
+     * @throws IOException if the request fails
+     * @throws InterruptedException if the request is interrupted
+     */
+    public HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response;
+    }
+}
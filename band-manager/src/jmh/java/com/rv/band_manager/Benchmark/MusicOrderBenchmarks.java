@@ -0,0 +1,56 @@
+package com.rv.band_manager.Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.rv.band_manager.Model.MusicOrder;
+import com.rv.band_manager.Service.MusicOrderService;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the order pages as the order history grows. The extra rows are all fulfilled,
+ * so the active pages return the same rows at every size and their time should stay flat.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MusicOrderBenchmarks {
+    // Total rows in music_orders, the generated data set starts at DataGenerator.ORDERS
+    @Param({"10000", "100000", "1000000"})
+    public int orderRows;
+
+    private MusicOrderService musicOrderService;
+
+    /**
+     * Grows the order table to the benchmarked size and looks up the service.
+     *
+     * @param state the state holding the application
+     */
+    @Setup(Level.Trial)
+    public void setUp(BandManagerState state) {
+        new DataGenerator(state.getBean(JdbcTemplate.class))
+                .addFulfilledMusicOrders(orderRows - DataGenerator.ORDERS);
+        musicOrderService = state.getBean(MusicOrderService.class);
+    }
+
+    @Benchmark
+    public List<MusicOrder> userOrdersNotReady() {
+        return musicOrderService.getUserMusicOrderNotReady(randomUserId());
+    }
+
+    @Benchmark
+    public List<MusicOrder> userOrdersReady() {
+        return musicOrderService.getUserMusicOrderReady(randomUserId());
+    }
+
+    @Benchmark
+    public List<MusicOrder> committeeOrdersReady() {
+        return musicOrderService.getAllMusicOrderReady();
+    }
+
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(DataGenerator.USERS) + 1;
+    }
+}
@@ -0,0 +1,77 @@
+package com.rv.band_manager.Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the member pages over HTTP under high concurrency, with Tomcat on its platform
+ * thread pool and on virtual threads. Throughput mode gives requests per millisecond and sample
+ * time mode the latency percentiles, p0.99 among them. Every request blocks on JDBC several times.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+@State(Scope.Benchmark)
+public class PageConcurrencyBenchmarks {
+    private static final String EMAIL = "user1@example.com";
+    private static final String PASSWORD = "password";
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final BandManagerState state = new BandManagerState();
+    private MemberClient client;
+
+    /**
+     * Boots the application in the benchmarked thread mode and signs in a generated member.
+     *
+     * @throws IOException if the embedded database cannot be started or the sign in fails
+     * @throws InterruptedException if the sign in is interrupted
+     * @throws IllegalStateException if the application did not start in the benchmarked thread mode
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        state.start("spring.threads.virtual.enabled=" + virtualThreads);
+        // Both modes would otherwise measure the same platform thread pool without failing
+        Environment environment = state.getBean(Environment.class);
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false) != virtualThreads) {
+            state.stop();
+            throw new IllegalStateException("The application did not start with spring.threads.virtual.enabled="
+                    + virtualThreads);
+        }
+        state.getBean(JdbcTemplate.class).update("UPDATE users SET password = ? WHERE email = ?",
+                state.getBean(PasswordEncoder.class).encode(PASSWORD), EMAIL);
+        client = new MemberClient(environment.getProperty("local.server.port"));
+        client.signIn(EMAIL, PASSWORD);
+    }
+
+    /**
+     * Stops the application and the database.
+     *
+     * @throws IOException if the embedded database cannot be stopped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        state.stop();
+    }
+
+    @Benchmark
+    public String music() throws IOException, InterruptedException {
+        return client.get("/music").body();
+    }
+
+    @Benchmark
+    public String performance() throws IOException, InterruptedException {
+        return client.get("/performance").body();
+    }
+
+    @Benchmark
+    public String loans() throws IOException, InterruptedException {
+        return client.get("/loans").body();
+    }
+}
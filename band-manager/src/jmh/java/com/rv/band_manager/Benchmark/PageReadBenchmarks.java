@@ -0,0 +1,87 @@
+package com.rv.band_manager.Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import com.rv.band_manager.ParallelReads;
+import com.rv.band_manager.Service.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of the reads behind the loans and music pages, issued one after another as the controllers
+ * used to and forked through ParallelReads as they do now. The forked time should be close to the
+ * slowest single read rather than the sum of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PageReadBenchmarks {
+    private InstrumentLoanService instrumentLoanService;
+    private MiscellaneousLoanService miscellaneousLoanService;
+    private MusicOrderService musicOrderService;
+    private MusicPartService musicPartService;
+    private ParallelReads parallelReads;
+
+    /**
+     * Looks up the services from the booted application.
+     *
+     * @param state the state holding the application
+     */
+    @Setup(Level.Trial)
+    public void setUp(BandManagerState state) {
+        instrumentLoanService = state.getBean(InstrumentLoanService.class);
+        miscellaneousLoanService = state.getBean(MiscellaneousLoanService.class);
+        musicOrderService = state.getBean(MusicOrderService.class);
+        musicPartService = state.getBean(MusicPartService.class);
+        parallelReads = state.getBean(ParallelReads.class);
+    }
+
+    @Benchmark
+    public void loansSequential(Blackhole blackhole) {
+        long userId = randomUserId();
+        blackhole.consume(instrumentLoanService.getInstrumentsNotLoaned());
+        blackhole.consume(instrumentLoanService.getUserInstrumentLoansNotReturned(userId));
+        blackhole.consume(miscellaneousLoanService.getMiscellaneousNotLoaned());
+        blackhole.consume(miscellaneousLoanService.getUserMiscellaneousLoansNotReturned(userId));
+    }
+
+    @Benchmark
+    public void loansParallel(Blackhole blackhole) {
+        long userId = randomUserId();
+        ParallelReads.Scope reads = parallelReads.open();
+        Supplier<?> instrumentsNotLoaned = reads.fork(instrumentLoanService::getInstrumentsNotLoaned);
+        Supplier<?> instrumentLoans = reads.fork(() -> instrumentLoanService.getUserInstrumentLoansNotReturned(userId));
+        Supplier<?> miscellaneousNotLoaned = reads.fork(miscellaneousLoanService::getMiscellaneousNotLoaned);
+        Supplier<?> miscellaneousLoans = reads.fork(
+                () -> miscellaneousLoanService.getUserMiscellaneousLoansNotReturned(userId));
+        reads.join();
+        blackhole.consume(instrumentsNotLoaned.get());
+        blackhole.consume(instrumentLoans.get());
+        blackhole.consume(miscellaneousNotLoaned.get());
+        blackhole.consume(miscellaneousLoans.get());
+    }
+
+    @Benchmark
+    public void musicSequential(Blackhole blackhole) {
+        long userId = randomUserId();
+        blackhole.consume(musicOrderService.getUserMusicOrderSummary(userId));
+        blackhole.consume(musicPartService.getUserMusicPartNeeded(userId));
+    }
+
+    @Benchmark
+    public void musicParallel(Blackhole blackhole) {
+        long userId = randomUserId();
+        ParallelReads.Scope reads = parallelReads.open();
+        Supplier<?> musicOrderSummary = reads.fork(() -> musicOrderService.getUserMusicOrderSummary(userId));
+        Supplier<?> musicPartNeeded = reads.fork(() -> musicPartService.getUserMusicPartNeeded(userId));
+        reads.join();
+        blackhole.consume(musicOrderSummary.get());
+        blackhole.consume(musicPartNeeded.get());
+    }
+
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(DataGenerator.USERS) + 1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.rv.band_manager.Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
+import com.rv.band_manager.DTO.PerformanceDetail;
+import com.rv.band_manager.Model.Instrument;
+import com.rv.band_manager.Model.MusicPart;
+import com.rv.band_manager.Service.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hot service methods behind the member and loan pages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ServiceBenchmarks {
+    private MusicPartService musicPartService;
+    private MiscellaneousService miscellaneousService;
+    private InstrumentLoanService instrumentLoanService;
+    private PerformanceService performanceService;
+    private PerformanceMemberService performanceMemberService;
+
+    /**
+     * Looks up the services from the booted application.
+     *
+     * @param state the state holding the application
+     */
+    @Setup(Level.Trial)
+    public void setUp(BandManagerState state) {
+        musicPartService = state.getBean(MusicPartService.class);
+        miscellaneousService = state.getBean(MiscellaneousService.class);
+        instrumentLoanService = state.getBean(InstrumentLoanService.class);
+        performanceService = state.getBean(PerformanceService.class);
+        performanceMemberService = state.getBean(PerformanceMemberService.class);
+    }
+
+    /**
+     * Per-invocation state that takes a band off a performance, so adding it back rosters the whole band.
+     */
+    @State(Scope.Thread)
+    public static class RosterState {
+        long performanceId;
+        long bandId;
+
+        @Setup(Level.Invocation)
+        public void removeBand(ServiceBenchmarks benchmarks) {
+            performanceId = randomId(DataGenerator.PERFORMANCES);
+            bandId = performanceId % DataGenerator.BANDS + 1;
+            benchmarks.performanceService.removeBandFromPerformance(performanceId, bandId);
+        }
+    }
+
+    @Benchmark
+    public List<MusicPart> userMusicPartNeeded() {
+        return musicPartService.getUserMusicPartNeeded(randomId(DataGenerator.USERS));
+    }
+
+    @Benchmark
+    public List<MiscellaneousAvailability> miscellaneousAvailability() {
+        return miscellaneousService.getMiscellaneousAvailability();
+    }
+
+    @Benchmark
+    public boolean instrumentInLoan() {
+        Instrument instrument = new Instrument();
+        instrument.setId(randomId(DataGenerator.INSTRUMENTS));
+        return instrumentLoanService.instrumentInLoan(instrument);
+    }
+
+    @Benchmark
+    public void addBandToPerformance(RosterState roster) {
+        performanceService.addBandToPerformance(roster.performanceId, roster.bandId);
+    }
+
+    @Benchmark
+    public List<PerformanceDetail> performanceDashboard() {
+        return performanceMemberService.getPerformanceDetailsByUserId(randomId(DataGenerator.USERS));
+    }
+
+    private static long randomId(int count) {
+        return ThreadLocalRandom.current().nextLong(count) + 1;
+    }
+}
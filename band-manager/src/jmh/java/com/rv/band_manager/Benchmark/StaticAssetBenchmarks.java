@@ -0,0 +1,77 @@
+package com.rv.band_manager.Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark of repeated views of the music page by a client that caches like a browser. Assets served with an
+ * immutable Cache-Control are kept and not requested again, others are fetched on every view. The assetRequests
+ * and assetsFromCache counters, divided by the page view rate, give the requests per page view sent to the
+ * server and served from cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StaticAssetBenchmarks {
+    private static final String EMAIL = "user1@example.com";
+    private static final String PASSWORD = "password";
+    private static final Pattern ASSET_URL = Pattern.compile("(?:src|href)=\"(/(?:css|js|images)/[^\"]+)\"");
+
+    private MemberClient client;
+
+    /**
+     * Per-thread browser cache of the assets whose responses may be reused without revalidating.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BrowserCache {
+        public long assetRequests;
+        public long assetsFromCache;
+        private final Set<String> immutableAssets = new HashSet<>();
+    }
+
+    /**
+     * Signs in a generated member.
+     *
+     * @param state the state holding the application
+     * @throws IOException if the sign in fails
+     * @throws InterruptedException if the sign in is interrupted
+     */
+    @Setup(Level.Trial)
+    public void setUp(BandManagerState state) throws IOException, InterruptedException {
+        state.getBean(JdbcTemplate.class).update("UPDATE users SET password = ? WHERE email = ?",
+                state.getBean(PasswordEncoder.class).encode(PASSWORD), EMAIL);
+        client = new MemberClient(state.getBean(Environment.class).getProperty("local.server.port"));
+        client.signIn(EMAIL, PASSWORD);
+    }
+
+    @Benchmark
+    public int musicPageView(BrowserCache cache) throws IOException, InterruptedException {
+        Matcher assets = ASSET_URL.matcher(client.get("/music").body());
+        int bytes = 0;
+        while (assets.find()) {
+            String url = assets.group(1);
+            if (cache.immutableAssets.contains(url)) {
+                cache.assetsFromCache++;
+                continue;
+            }
+            HttpResponse<String> asset = client.get(url);
+            cache.assetRequests++;
+            bytes += asset.body().length();
+            if (asset.headers().firstValue("Cache-Control").orElse("").contains("immutable")) {
+                cache.immutableAssets.add(url);
+            }
+        }
+        return bytes;
+    }
+}
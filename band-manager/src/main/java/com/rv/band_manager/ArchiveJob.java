@@ -0,0 +1,66 @@
+package com.rv.band_manager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rv.band_manager.Service.ArchiveService;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.function.BiFunction;
+
+/**
+ * Scheduled job moving returned loans and fulfilled music orders older than the configured age
+ * into the archive tables. Each batch is its own transaction, so a large backlog never holds
+ * locks on the live tables for long.
+ */
+@Component
+public class ArchiveJob {
+    private static final Logger log = LoggerFactory.getLogger(ArchiveJob.class);
+
+    private final ArchiveService archiveService;
+    private final Period closedFor;
+    private final int batchSize;
+
+    /**
+     * Constructor for ArchiveJob.
+     *
+     * @param archiveService The service moving one batch of rows at a time.
+     * @param closedFor How long ago a closed loan or order must have been dated to be archived.
+     * @param batchSize The maximum number of rows moved per transaction.
+     */
+    public ArchiveJob(ArchiveService archiveService,
+                      @Value("${archive.closed-for}") Period closedFor,
+                      @Value("${archive.batch-size}") int batchSize) {
+        this.archiveService = archiveService;
+        this.closedFor = closedFor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives every closed loan and order dated before the cutoff.
+     */
+    @Scheduled(cron = "${archive.cron}")
+    public void archiveClosedRows() {
+        LocalDate cutoff = LocalDate.now().minus(closedFor);
+        int instrumentLoans = drain(cutoff, archiveService::archiveInstrumentLoans);
+        int miscellaneousLoans = drain(cutoff, archiveService::archiveMiscellaneousLoans);
+        int musicOrders = drain(cutoff, archiveService::archiveMusicOrders);
+        log.info("Archived {} instrument loans, {} miscellaneous loans and {} music orders dated before {}",
+                instrumentLoans, miscellaneousLoans, musicOrders, cutoff);
+    }
+
+    //Runs batches until one comes back short, returns the total number of rows moved
+    private int drain(LocalDate cutoff, BiFunction<LocalDate, Integer, Integer> batch) {
+        int total = 0;
+        int moved;
+        do {
+            moved = batch.apply(cutoff, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+}
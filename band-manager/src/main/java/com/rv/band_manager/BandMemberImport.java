@@ -0,0 +1,126 @@
+package com.rv.band_manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.rv.band_manager.DTO.BandMemberImportResult;
+import com.rv.band_manager.Service.UserService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Component enrolling the members listed in an uploaded CSV file into a band. The file is read a chunk of rows
+ * at a time, each chunk is resolved and inserted in its own transaction, and the result of each row is written
+ * to the report as soon as its chunk is committed, so memory use does not grow with the size of the file.
+ * Chunks committed before a failure stay committed, and the report ends at the last one.
+ */
+@Component
+public class BandMemberImport {
+    private static final String REPORT_HEADER = "line,email,result";
+    private static final String EMAIL_HEADER = "email";
+
+    private final UserService userService;
+    private final int chunkSize;
+
+    /**
+     * Constructor for BandMemberImport.
+     *
+     * @param userService The service adding each chunk of users to the band.
+     * @param chunkSize The number of rows resolved and inserted per transaction.
+     */
+    public BandMemberImport(UserService userService,
+                            @Value("${band-import.chunk-size}") int chunkSize) {
+        this.userService = userService;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Adds the users whose emails are in the first column of a CSV file to a band. A first row reading
+     * "email" is taken as a header, and blank rows are skipped.
+     *
+     * @param csv The uploaded file.
+     * @param bandId The ID of the band to add the users to.
+     * @param report The writer the line, email and result of each row are written to, as CSV.
+     * @throws IOException If the file cannot be read or the report cannot be written.
+     */
+    public void importMembers(Reader csv, Long bandId, Writer report) throws IOException {
+        BufferedReader lines = new BufferedReader(csv);
+        report.write(REPORT_HEADER + "\n");
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String email = firstField(line);
+            if (email.isEmpty() || (lineNumber == 1 && email.equalsIgnoreCase(EMAIL_HEADER))) {
+                continue;
+            }
+            chunk.add(new Row(lineNumber, email));
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, bandId, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, bandId, report);
+        }
+        report.flush();
+    }
+
+    //Adds the rows that look like an email in one transaction, then reports every row of the chunk in file order
+    private void importChunk(List<Row> chunk, Long bandId, Writer report) throws IOException {
+        List<String> emails = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (row.email.indexOf('@') > 0) {
+                emails.add(row.email);
+            }
+        }
+        Map<String, BandMemberImportResult> results = emails.isEmpty()
+                ? Map.of()
+                : userService.addBandToUsersByEmail(emails, bandId);
+        for (Row row : chunk) {
+            BandMemberImportResult result = results.getOrDefault(row.email, BandMemberImportResult.INVALID);
+            report.write(row.lineNumber + "," + quote(row.email) + "," + result + "\n");
+        }
+        //Sends the chunk's results to the client while the next chunk is read
+        report.flush();
+    }
+
+    //Reads the first column of a CSV row, without its surrounding quotes or a leading byte order mark
+    private static String firstField(String line) {
+        String field = line.startsWith("\uFEFF") ? line.substring(1) : line;
+        int comma = field.indexOf(',');
+        field = (comma >= 0 ? field.substring(0, comma) : field).trim();
+        if (field.length() >= 2 && field.startsWith("\"") && field.endsWith("\"")) {
+            field = field.substring(1, field.length() - 1).trim();
+        }
+        return field;
+    }
+
+    //Quotes a value for the report when it contains a separator or a quote
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * A row of the uploaded file waiting in the current chunk.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String email;
+
+        private Row(int lineNumber, String email) {
+            this.lineNumber = lineNumber;
+            this.email = email;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.rv.band_manager.Controller;
 
 import jakarta.validation.Valid;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,10 +12,13 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.bind.annotation.*;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
+import com.rv.band_manager.ParallelReads;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Service.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Controller for handling authentication and user management operations.
@@ -27,21 +31,28 @@ public class AuthController {
     private final InstrumentLoanService instrumentLoanService;
     private final MiscellaneousService miscellaneousService;
     private final MiscellaneousLoanService miscellaneousLoanService;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final ParallelReads parallelReads;
     /**
      * Constructor to inject required services.
      *
      * @param userService the user service for user-related operations.
      * @param authenticationManager the authentication manager for handling authentication.
+     * @param authenticatedUserCache the cache used to resolve the authenticated user.
+     * @param parallelReads the helper running the independent reads of a page concurrently.
      */
     public AuthController(UserService userService, AuthenticationManager authenticationManager,
         InstrumentService instrumentService, InstrumentLoanService instrumentLoanService,
-        MiscellaneousService miscellaneousService, MiscellaneousLoanService miscellaneousLoanService) {
+        MiscellaneousService miscellaneousService, MiscellaneousLoanService miscellaneousLoanService,
+        AuthenticatedUserCache authenticatedUserCache, ParallelReads parallelReads) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.instrumentService = instrumentService;
         this.instrumentLoanService = instrumentLoanService;
         this.miscellaneousService = miscellaneousService;
         this.miscellaneousLoanService = miscellaneousLoanService;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.parallelReads = parallelReads;
     }
 
     /**
@@ -159,18 +170,22 @@ public class AuthController {
         if (authentication == null) {
             return "login"; // Redirect to login page if not authenticated
         }
-        Optional<User> userOpt = userService.getUserByEmail(authentication.getName());
-        User user = userOpt.get();
-        List<Instrument> instrumentsNotLoaned = instrumentLoanService.getInstrumentsNotLoaned();
-        List<InstrumentLoan> userInstrumentLoansNotReturned = instrumentLoanService.getUserInstrumentLoansNotReturned(user.getId());
-        List<Miscellaneous> miscellaneousNotLoaned = miscellaneousLoanService.getMiscellaneousNotLoaned();
-        List<MiscellaneousLoan> userMiscellaneousLoansNotReturned = miscellaneousLoanService.getUserMiscellaneousLoansNotReturned(user.getId());
-        miscellaneousService.setAvailableMiscellaneousQuantity();
+        CustomerUserDetails user = authenticatedUserCache.get(authentication.getName()).get();
+        // The four lists are independent, so they are read concurrently
+        ParallelReads.Scope reads = parallelReads.open();
+        Supplier<List<Instrument>> instrumentsNotLoaned = reads.fork(instrumentLoanService::getInstrumentsNotLoaned);
+        Supplier<List<InstrumentLoan>> userInstrumentLoansNotReturned = reads.fork(
+                () -> instrumentLoanService.getUserInstrumentLoansNotReturned(user.getId()));
+        Supplier<List<MiscellaneousAvailability>> miscellaneousNotLoaned = reads.fork(
+                miscellaneousLoanService::getMiscellaneousNotLoaned);
+        Supplier<List<MiscellaneousLoan>> userMiscellaneousLoansNotReturned = reads.fork(
+                () -> miscellaneousLoanService.getUserMiscellaneousLoansNotReturned(user.getId()));
+        reads.join();
         model.addAttribute("email", authentication.getName()); // Add user's email to the model
-        model.addAttribute("instrumentsNotLoaned", instrumentsNotLoaned);
-        model.addAttribute("userInstrumentLoansNotReturned", userInstrumentLoansNotReturned);
-        model.addAttribute("miscellaneousNotLoaned", miscellaneousNotLoaned);
-        model.addAttribute("userMiscellaneousLoansNotReturned", userMiscellaneousLoansNotReturned);
+        model.addAttribute("instrumentsNotLoaned", instrumentsNotLoaned.get());
+        model.addAttribute("userInstrumentLoansNotReturned", userInstrumentLoansNotReturned.get());
+        model.addAttribute("miscellaneousNotLoaned", miscellaneousNotLoaned.get());
+        model.addAttribute("userMiscellaneousLoansNotReturned", userMiscellaneousLoansNotReturned.get());
         return "loans"; // Returns the loans.html page
     }
 
@@ -226,7 +241,9 @@ public class AuthController {
       }
       try {
         // Save the new instrument loan to the database
-        User user = userService.getUserByEmail(authentication.getName()).get();
+        // The loan only needs the user's key, so reference it instead of loading the row
+        Long userId = authenticatedUserCache.get(authentication.getName()).get().getId();
+        User user = userService.getUserReference(userId);
         Optional<Instrument> instrumentOpt = instrumentService.getInstrumentBySerialNumber(serialNumber);
         if(instrumentOpt.isPresent()){
           Instrument instrument = instrumentOpt.get();
@@ -247,6 +264,11 @@ public class AuthController {
               "Error finding instrument with that serial number");
           return "redirect:instrument/loan/new";
         }
+      } catch (DataIntegrityViolationException e) {
+        // Another request loaned the instrument between the check and the insert
+        redirectAttributes.addFlashAttribute("errorMessage",
+                "Instrument is already in loan");
+        return "redirect:/instrument/loan/new";
       } catch (Exception e) {
         // Handle exceptions and log the error
         System.out.println(e.getMessage());
@@ -282,8 +304,6 @@ public class AuthController {
                     redirectAttributes.addFlashAttribute("errorMessage",
                             "Error returning miscellaneous loan");
                 } else {
-
-                    miscellaneousService.setAvailableMiscellaneousQuantity();
                     redirectAttributes.addFlashAttribute("successMessage",
                             "miscellaneous loan returned");
                     return "redirect:/loans";
@@ -313,28 +333,27 @@ public class AuthController {
       }
       try {
         // Save the new instrument loan to the database
-        User user = userService.getUserByEmail(authentication.getName()).get();
+        // The loan only needs the user's key, so reference it instead of loading the row
+        Long userId = authenticatedUserCache.get(authentication.getName()).get().getId();
+        User user = userService.getUserReference(userId);
         Optional<Miscellaneous> miscellaneousOpt = miscellaneousService.getMiscellaneousByNameAndMake(name, make);
         if(miscellaneousOpt.isPresent()){
           Miscellaneous miscellaneous = miscellaneousOpt.get();
-          miscellaneousService.setAvailableMiscellaneousQuantity();
-          if(quantity > miscellaneous.getAvailableQuantity()){
-            redirectAttributes.addFlashAttribute("errorMessage",
-                "Error quantity is higher than available quantity");
-            return "redirect:/miscellaneous/loan/new";
-          }
-          else{
-            MiscellaneousLoan savedMiscellaneousLoan = miscellaneousLoanService.createMiscellaneousLoan(user, miscellaneous, quantity);
-            redirectAttributes.addFlashAttribute("successMessage",
-                    "Miscellaneous loan created successfully");
-            return "redirect:/loans"; 
-          }
+          // The service reserves the quantity atomically and rejects it if not enough is available
+          MiscellaneousLoan savedMiscellaneousLoan = miscellaneousLoanService.createMiscellaneousLoan(user, miscellaneous, quantity);
+          redirectAttributes.addFlashAttribute("successMessage",
+                  "Miscellaneous loan created successfully");
+          return "redirect:/loans"; 
         }
         else{
           redirectAttributes.addFlashAttribute("errorMessage",
               "Error finding miscellaneous with that name and make");
           return "redirect:/miscellaneous/loan/new";
         }
+      } catch (IllegalStateException e) {
+        redirectAttributes.addFlashAttribute("errorMessage",
+            "Error quantity is higher than available quantity");
+        return "redirect:/miscellaneous/loan/new";
       } catch (Exception e) {
         // Handle exceptions and log the error
         System.out.println(e.getMessage());
@@ -386,9 +405,9 @@ public class AuthController {
     public String showViewChildForm(Model model) {
         Authentication authentication = SecurityContextHolder.getContext()
                 .getAuthentication();
-        Optional<User> parentOpt = userService.getUserByEmail(authentication.getName());
+        Optional<CustomerUserDetails> parentOpt = authenticatedUserCache.get(authentication.getName());
         if (parentOpt.isPresent()) {
-            User parent = parentOpt.get();
+            User parent = userService.getUserReference(parentOpt.get().getId());
             List<User> children = userService.getParentsChildren(parent); // Fetch parent's children
             model.addAttribute("children", children);
             model.addAttribute("parent", parent);
@@ -419,7 +438,7 @@ public class AuthController {
             User parent = parentOpt.get();
             // Check if parent matches the child's parent relationship
             ParentChildRelationship parentRelationship = child.getParentRelationship();
-            if (parentRelationship.getParent().equals(parent)) {
+            if (parentRelationship.getParent().getId().equals(parent.getId())) {
                 model.addAttribute("child", child); // Add child details to the model
                 model.addAttribute("parent", parent);
                 model.addAttribute("email", child.getEffectiveEmail());
@@ -1,7 +1,10 @@
 package com.rv.band_manager.Controller;
 
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
@@ -10,12 +13,20 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import com.rv.band_manager.BandMemberImport;
+import com.rv.band_manager.DTO.UserSummary;
 import com.rv.band_manager.Model.MusicPart;
 import com.rv.band_manager.Model.MusicSet;
 import com.rv.band_manager.Model.User;
 import com.rv.band_manager.Service.UserService;
 
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,14 +38,17 @@ import java.util.Optional;
 public class BandController {
 
     private final UserService userService; // Service to handle user-related logic
+    private final BandMemberImport bandMemberImport; // Bulk enrolment from uploaded CSV files
 
     /**
      * Constructor to inject UserServiceImpl dependency.
      *
      * @param userService the user service for user-related operations.
+     * @param bandMemberImport the component adding the members listed in an uploaded file.
      */
-    public BandController(UserService userService) {
+    public BandController(UserService userService, BandMemberImport bandMemberImport) {
         this.userService = userService;
+        this.bandMemberImport = bandMemberImport;
     }
 
     /**
@@ -54,7 +68,7 @@ public class BandController {
 
 
         // Retrieve all users assigned to the Training Band
-        List<User> users = userService.getUsersByBand("training-band");
+        List<UserSummary> users = userService.getUserSummariesByBand("training-band");
         model.addAttribute("users", users); // Add the users to the model for rendering
         return "director/training-band"; // Render the training-band page
     }
@@ -76,7 +90,7 @@ public class BandController {
 
 
         // Retrieve all users assigned to the Senior Band
-        List<User> users = userService.getUsersByBand("senior-band");
+        List<UserSummary> users = userService.getUserSummariesByBand("senior-band");
         model.addAttribute("users", users); // Add the users to the model for rendering
         return "director/senior-band"; // Render the senior-band page
     }
@@ -255,6 +269,31 @@ public class BandController {
         return "redirect:/director/senior-band";
     }
 
+    /**
+     * Adds the users listed in an uploaded CSV file to the Training or Senior Band, one email per row.
+     * The report is streamed back while the file is read, one chunk of rows at a time.
+     *
+     * @param band the band to add the users to, training-band or senior-band.
+     * @param file the CSV file with the users' emails in its first column.
+     * @return a CSV report of the line, email and result of each row.
+     */
+    @PostMapping(value = "{band:training-band|senior-band}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseBody
+    public ResponseEntity<StreamingResponseBody> importBandMembers(@PathVariable String band,
+                                                                   @RequestParam("file") MultipartFile file) {
+        Long bandId = band.equals("training-band") ? 2L : 1L; // ID for the Training Band or the Senior Band
+        StreamingResponseBody report = out -> {
+            try (Reader csv = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+                bandMemberImport.importMembers(csv, bandId, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(band + "-import.csv").build().toString())
+                .body(report);
+    }
+
     /**
      * Delete a Training Band member by ID.
      *
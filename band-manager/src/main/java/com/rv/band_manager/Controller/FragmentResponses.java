@@ -0,0 +1,32 @@
+package com.rv.band_manager.Controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.ui.Model;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Helper for the update endpoints that can answer with the re-rendered section of their page instead of a message.
+ * The page scripts ask for it with the X-Fragment header and swap the section in place, so an update costs one
+ * small render rather than a redirect to a list page that runs all of its queries again.
+ */
+final class FragmentResponses {
+    /** Header sent by the page scripts to ask for the re-rendered fragment */
+    static final String HEADER = "X-Fragment";
+
+    private FragmentResponses() {
+    }
+
+    /**
+     * Renders a fragment showing the outcome of an update in its success or error alert.
+     *
+     * @param result the response of the update, its body being the message to show.
+     * @param model the model filled by the handler of the page the fragment belongs to.
+     * @param fragment the template and fragment name, e.g. "committee-member/instrument :: details".
+     * @return the fragment view, with the status of the update.
+     */
+    static ModelAndView render(ResponseEntity<?> result, Model model, String fragment) {
+        String message = result.getStatusCode().is2xxSuccessful() ? "successMessage" : "errorMessage";
+        model.addAttribute(message, String.valueOf(result.getBody()));
+        return new ModelAndView(fragment, model.asMap(), result.getStatusCode());
+    }
+}
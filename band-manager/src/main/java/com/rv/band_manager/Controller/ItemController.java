@@ -1,6 +1,7 @@
 package com.rv.band_manager.Controller;
 
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -9,11 +10,17 @@ import org.springframework.stereotype.*;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import com.rv.band_manager.DTO.LoanSummary;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Service.*;
 
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.BiFunction;
 
 /**
  * Controller for handling item management operations.
@@ -21,6 +28,11 @@ import java.util.*;
 @Controller
 @RequestMapping("/committee-member")
 public class ItemController {
+    // Number of rows loaded per section and per "Load more"
+    private static final int PAGE_SIZE = 25;
+    // Cursor date of the first page of a loan history, later than any loan
+    private static final LocalDate FIRST_PAGE_DATE = LocalDate.of(9999, 12, 31);
+
     private final InstrumentService instrumentService;
     private final MiscellaneousService miscellaneousService;
     private final InstrumentLoanService instrumentLoanService;
@@ -41,35 +53,107 @@ public class ItemController {
     }
 
     /**
-     * Displays all items.
+     * Displays the items page. Each section loads its rows page by page from the row endpoints below.
      *
-     * @param model the model to add attribute for rendering.
      * @return the name of the HTML template or login HTML template if unauthenticated.
      */
     @GetMapping("/items")
-    public String items(Model model){
+    public String items(){
         // Get the current authentication context
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
             // Redirect to login page if not authenticated
             return "login";
         }
-        List<Instrument> instruments = instrumentService.getAllInstruments();
-        List<Miscellaneous> miscellaneous = miscellaneousService.getAllMiscellaneous();
-        List<InstrumentLoan> instrumentLoansReturned = instrumentLoanService.getAllInstrumentLoansReturned();
-        List<InstrumentLoan> instrumentLoansNotReturned = instrumentLoanService.getAllInstrumentLoansNotReturned();
-        List<MiscellaneousLoan> miscellaneousLoansReturned = miscellaneousLoanService.getAllMiscellaneousLoansReturned();
-        List<MiscellaneousLoan> miscellaneousLoansNotReturned = miscellaneousLoanService.getAllMiscellaneousLoansNotReturned();
-        // Add data to the model for committee member's items view
-        model.addAttribute("instruments", instruments);
-        model.addAttribute("miscellaneousItems", miscellaneous);
-        model.addAttribute("instrumentLoansReturned", instrumentLoansReturned);
-        model.addAttribute("instrumentLoansNotReturned", instrumentLoansNotReturned);
-        model.addAttribute("miscellaneousLoansReturned", miscellaneousLoansReturned);
-        model.addAttribute("miscellaneousLoansNotReturned", miscellaneousLoansNotReturned);
         return "committee-member/items"; // Return the view for committee members
     }
 
+    /**
+     * Renders a page of instrument rows for the items page.
+     *
+     * @param after the ID of the last instrument already shown, 0 for the first page.
+     * @param model the model to add attributes for rendering.
+     * @return the instrument rows fragment.
+     */
+    @GetMapping("/items/instruments")
+    public String instrumentRows(@RequestParam(defaultValue = "0") Long after, Model model){
+        List<Instrument> instruments = instrumentService.getInstrumentsAfter(after, PAGE_SIZE + 1);
+        addPage(model, instruments, (uri, last) -> uri.replaceQueryParam("after", last.getId()));
+        return "committee-member/item-rows :: instruments";
+    }
+
+    /**
+     * Renders a page of miscellaneous item rows for the items page.
+     *
+     * @param after the ID of the last item already shown, 0 for the first page.
+     * @param model the model to add attributes for rendering.
+     * @return the miscellaneous rows fragment.
+     */
+    @GetMapping("/items/miscellaneous")
+    public String miscellaneousRows(@RequestParam(defaultValue = "0") Long after, Model model){
+        List<Miscellaneous> miscellaneous = miscellaneousService.getMiscellaneousAfter(after, PAGE_SIZE + 1);
+        addPage(model, miscellaneous, (uri, last) -> uri.replaceQueryParam("after", last.getId()));
+        return "committee-member/item-rows :: miscellaneous";
+    }
+
+    /**
+     * Renders a page of instrument loan rows for the items page, newest first.
+     *
+     * @param returned whether to show returned or active loans.
+     * @param beforeDate the date of the last loan already shown, omitted for the first page.
+     * @param beforeId the ID of the last loan already shown, omitted for the first page.
+     * @param model the model to add attributes for rendering.
+     * @return the instrument loan rows fragment.
+     */
+    @GetMapping("/items/instrument-loans")
+    public String instrumentLoanRows(@RequestParam Boolean returned,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+                                     @RequestParam(required = false) Long beforeId, Model model){
+        List<LoanSummary> loans = instrumentLoanService.getInstrumentLoansBefore(returned,
+                beforeDate != null ? beforeDate : FIRST_PAGE_DATE,
+                beforeId != null ? beforeId : Long.MAX_VALUE, PAGE_SIZE + 1);
+        addPage(model, loans, this::loanCursor);
+        return "committee-member/item-rows :: instrumentLoans";
+    }
+
+    /**
+     * Renders a page of miscellaneous loan rows for the items page, newest first.
+     *
+     * @param returned whether to show returned or active loans.
+     * @param beforeDate the date of the last loan already shown, omitted for the first page.
+     * @param beforeId the ID of the last loan already shown, omitted for the first page.
+     * @param model the model to add attributes for rendering.
+     * @return the miscellaneous loan rows fragment.
+     */
+    @GetMapping("/items/miscellaneous-loans")
+    public String miscellaneousLoanRows(@RequestParam Boolean returned,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+                                        @RequestParam(required = false) Long beforeId, Model model){
+        List<LoanSummary> loans = miscellaneousLoanService.getMiscellaneousLoansBefore(returned,
+                beforeDate != null ? beforeDate : FIRST_PAGE_DATE,
+                beforeId != null ? beforeId : Long.MAX_VALUE, PAGE_SIZE + 1);
+        addPage(model, loans, this::loanCursor);
+        return "committee-member/item-rows :: miscellaneousLoans";
+    }
+
+    // Points the next page of a loan history after the last loan shown
+    private UriComponentsBuilder loanCursor(UriComponentsBuilder uri, LoanSummary last) {
+        return uri.replaceQueryParam("beforeDate", last.getDate())
+                .replaceQueryParam("beforeId", last.getId());
+    }
+
+    // Adds a page fetched with one extra row, and the URL of the next page when that extra row exists
+    private <T> void addPage(Model model, List<T> rows,
+                             BiFunction<UriComponentsBuilder, T, UriComponentsBuilder> cursor) {
+        if (rows.size() > PAGE_SIZE) {
+            rows = rows.subList(0, PAGE_SIZE);
+            UriComponentsBuilder next = cursor.apply(ServletUriComponentsBuilder.fromCurrentRequest(),
+                    rows.get(PAGE_SIZE - 1));
+            model.addAttribute("nextUrl", next.toUriString());
+        }
+        model.addAttribute("rows", rows);
+    }
+
 
     // Instrument Mappings
 
@@ -204,6 +288,25 @@ public class ItemController {
         }
     }
 
+    /**
+     * Updates an instrument and re-renders its details for the instrument page to swap in.
+     *
+     * @param id the ID of the instrument.
+     * @param instrument the instrument object.
+     * @param bindingResult the result of validation on the instrument object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/instrument/{id}", headers = FragmentResponses.HEADER)
+    public ModelAndView updateInstrumentFragment(@PathVariable Long id,
+                                                 @Valid @RequestBody Instrument instrument,
+                                                 BindingResult bindingResult,
+                                                 Model model) {
+        ResponseEntity<?> result = updateInstrument(id, instrument, bindingResult);
+        getInstrumentById(id, model);
+        return FragmentResponses.render(result, model, "committee-member/instrument :: details");
+    }
+
     /**
      * Deletes an instrument.
      *
@@ -361,6 +464,25 @@ public class ItemController {
         }
     }
 
+    /**
+     * Updates a miscellaneous and re-renders its details for the miscellaneous page to swap in.
+     *
+     * @param id the ID of the miscellaneous.
+     * @param miscellaneous the miscellaneous object.
+     * @param bindingResult the result of validation on the miscellaneous object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/miscellaneous/{id}", headers = FragmentResponses.HEADER)
+    public ModelAndView updateMiscellaneousFragment(@PathVariable Long id,
+                                                    @Valid @RequestBody Miscellaneous miscellaneous,
+                                                    BindingResult bindingResult,
+                                                    Model model) {
+        ResponseEntity<?> result = updateMiscellaneous(id, miscellaneous, bindingResult);
+        getMiscellaneousById(id, model);
+        return FragmentResponses.render(result, model, "committee-member/miscellaneous :: details");
+    }
+
     /**
      * Deletes a miscellaneous.
      *
@@ -9,12 +9,17 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import com.rv.band_manager.DTO.MusicOrderSummary;
+import com.rv.band_manager.DTO.MusicSetSummary;
+import com.rv.band_manager.ParallelReads;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Service.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Controller
 public class MusicController {
@@ -24,6 +29,8 @@ public class MusicController {
     private final BandService bandService;
     private final MusicOrderService musicOrderService;
     private final UserService userService;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final ParallelReads parallelReads;
 
     /**
      * Constructor to initialize dependencies via Dependency Injection
@@ -33,15 +40,20 @@ public class MusicController {
      * @param bandService the service for band related operations.
      * @param musicOrderService the service for music order related operations.
      * @param userService the user service for user-related operations.
+     * @param authenticatedUserCache the cache used to resolve the authenticated user.
+     * @param parallelReads the helper running the independent reads of a page concurrently.
      */
     public MusicController(MusicSetService musicSetService, MusicPartService musicPartService,
                            BandService bandService, MusicOrderService musicOrderService,
-                           UserService userService) {
+                           UserService userService, AuthenticatedUserCache authenticatedUserCache,
+                           ParallelReads parallelReads) {
         this.musicSetService = musicSetService;
         this.musicPartService = musicPartService;
         this.bandService = bandService;
         this.musicOrderService = musicOrderService;
         this.userService = userService;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.parallelReads = parallelReads;
     }
 
     /**
@@ -58,23 +70,27 @@ public class MusicController {
             // Redirect to login page if not authenticated
             return "login";
         }
-        // Retrieve the authenticated user using their email
-        Optional<User> user = userService.getUserByEmail(authentication.getName());
+        // Resolve the authenticated user from the principal cache
+        Optional<CustomerUserDetails> user = authenticatedUserCache.get(authentication.getName());
         if (user.isPresent()) {
             // Populate the model with user-specific data if user is found
-            User currentUser = user.get();
-            List<MusicOrder> musicOrdersFulfilled = musicOrderService.getUserMusicOrderFulfilled(currentUser.getId());
-            List<MusicOrder> musicOrdersReady = musicOrderService.getUserMusicOrderReady(currentUser.getId());
-            List<MusicOrder> musicOrderNotReady = musicOrderService.getUserMusicOrderNotReady(currentUser.getId());
-            List<MusicPart> musicPartNeeded = musicPartService.getUserMusicPartNeeded(currentUser.getId());
-            List<MusicPart> musicPartHave = musicPartService.getUserMusicPart(currentUser.getId());
+            CustomerUserDetails currentUser = user.get();
+            // All orders in one query, split by status in memory, alongside the parts still needed
+            ParallelReads.Scope reads = parallelReads.open();
+            Supplier<MusicOrderSummary> musicOrderSummary = reads.fork(
+                    () -> musicOrderService.getUserMusicOrderSummary(currentUser.getId()));
+            Supplier<List<MusicPart>> musicPartNeededRead = reads.fork(
+                    () -> musicPartService.getUserMusicPartNeeded(currentUser.getId()));
+            reads.join();
+            MusicOrderSummary musicOrders = musicOrderSummary.get();
+            List<MusicPart> musicPartNeeded = musicPartNeededRead.get();
             model.addAttribute("fullName", authentication.getName());
             model.addAttribute("user", currentUser);
-            model.addAttribute("musicOrdersFulfilled", musicOrdersFulfilled);
-            model.addAttribute("musicOrdersReady", musicOrdersReady);
-            model.addAttribute("musicOrderNotReady", musicOrderNotReady);
+            model.addAttribute("musicOrdersFulfilled", musicOrders.getFulfilled());
+            model.addAttribute("musicOrdersReady", musicOrders.getReady());
+            model.addAttribute("musicOrderNotReady", musicOrders.getNotReady());
             model.addAttribute("musicPartNeeded", musicPartNeeded);
-            model.addAttribute("musicPartHave", musicPartHave);
+            model.addAttribute("musicPartHave", musicOrders.getPartsHeld());
         }
         return "music"; // Return the view name
     }
@@ -101,20 +117,23 @@ public class MusicController {
             // Retrieve parent details of the child
             User parent = child.getParentRelationship().getParent();
             // Fetch various music orders and parts for the child
-            List<MusicOrder> musicOrdersFulfilled = musicOrderService.getChildMusicOrderFulfilled(child.getId());
-            List<MusicOrder> musicOrdersReady = musicOrderService.getChildMusicOrderReady(child.getId());
-            List<MusicOrder> musicOrderNotReady = musicOrderService.getChildMusicOrderNotReady(child.getId());
-            List<MusicPart> musicPartNeeded = musicPartService.getUserMusicPartNeeded(child.getId());
-            List<MusicPart> musicPartHave = musicPartService.getChildMusicPart(child.getId());
+            ParallelReads.Scope reads = parallelReads.open();
+            Supplier<MusicOrderSummary> musicOrderSummary = reads.fork(
+                    () -> musicOrderService.getChildMusicOrderSummary(child.getId()));
+            Supplier<List<MusicPart>> musicPartNeededRead = reads.fork(
+                    () -> musicPartService.getUserMusicPartNeeded(child.getId()));
+            reads.join();
+            MusicOrderSummary musicOrders = musicOrderSummary.get();
+            List<MusicPart> musicPartNeeded = musicPartNeededRead.get();
             // Add data to the model for the view
             model.addAttribute("fullName", child.getFullName());
             model.addAttribute("child", child);
             model.addAttribute("parent", parent);
-            model.addAttribute("musicOrdersFulfilled", musicOrdersFulfilled);
-            model.addAttribute("musicOrdersReady", musicOrdersReady);
-            model.addAttribute("musicOrderNotReady", musicOrderNotReady);
+            model.addAttribute("musicOrdersFulfilled", musicOrders.getFulfilled());
+            model.addAttribute("musicOrdersReady", musicOrders.getReady());
+            model.addAttribute("musicOrderNotReady", musicOrders.getNotReady());
             model.addAttribute("musicPartNeeded", musicPartNeeded);
-            model.addAttribute("musicPartHave", musicPartHave);
+            model.addAttribute("musicPartHave", musicOrders.getPartsHeld());
         }
         return "/child/music"; // Return the child-specific music view
     }
@@ -134,13 +153,15 @@ public class MusicController {
             return "login";
         }
         // Fetch all available music sets and ready orders for committee members
-        List<MusicSet> musicSets = musicSetService.getAllMusicSets();
-        List<MusicOrder> musicOrders = musicOrderService.getAllMusicOrderReady();
-        List<MusicOrder> musicOrdersFulfilled = musicOrderService.getAllMusicOrderFulfilled();
+        ParallelReads.Scope reads = parallelReads.open();
+        Supplier<List<MusicSetSummary>> musicSets = reads.fork(musicSetService::getMusicSetSummaries);
+        Supplier<List<MusicOrder>> musicOrders = reads.fork(musicOrderService::getAllMusicOrderReady);
+        Supplier<List<MusicOrder>> musicOrdersFulfilled = reads.fork(musicOrderService::getAllMusicOrderFulfilled);
+        reads.join();
         // Add data to the model for committee member's music view
-        model.addAttribute("musicSets", musicSets);
-        model.addAttribute("musicOrders", musicOrders);
-        model.addAttribute("musicOrdersFulfilled", musicOrdersFulfilled);
+        model.addAttribute("musicSets", musicSets.get());
+        model.addAttribute("musicOrders", musicOrders.get());
+        model.addAttribute("musicOrdersFulfilled", musicOrdersFulfilled.get());
         return "committee-member/music"; // Return the view for committee members
     }
 
@@ -524,6 +545,25 @@ public class MusicController {
         }
     }
 
+    /**
+     * Updates an existing music set and re-renders its details for the music set page to swap in.
+     *
+     * @param id the ID of the music set.
+     * @param musicSet the updated music set details.
+     * @param bindingResult the result of validation on the music set object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/committee-member/music-set/{id}", headers = FragmentResponses.HEADER)
+    public ModelAndView updateMusicSetFragment(@PathVariable Long id,
+                                               @Valid @RequestBody MusicSet musicSet,
+                                               BindingResult bindingResult,
+                                               Model model) {
+        ResponseEntity<?> result = updateMusicSet(id, musicSet, bindingResult);
+        getMusicSetById(id, model);
+        return FragmentResponses.render(result, model, "committee-member/music-set :: details");
+    }
+
     /**
      * Updates an existing music part.
      *
@@ -556,6 +596,26 @@ public class MusicController {
         }
     }
 
+    /**
+     * Updates an existing music part and re-renders its details for the music part page to swap in.
+     *
+     * @param musicSetId the ID of the music set.
+     * @param musicPartId the ID of the music part.
+     * @param musicPart the updated music part details.
+     * @param bindingResult the result of validation on the music part object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/committee-member/music-set/{musicSetId}/music-part/{musicPartId}", headers = FragmentResponses.HEADER)
+    public ModelAndView updateMusicPartFragment(@PathVariable Long musicSetId, @PathVariable Long musicPartId,
+                                                @Valid @RequestBody MusicPart musicPart,
+                                                BindingResult bindingResult,
+                                                Model model) {
+        ResponseEntity<?> result = updateMusicPart(musicSetId, musicPartId, musicPart, bindingResult);
+        getMusicPartById(musicSetId, musicPartId, model);
+        return FragmentResponses.render(result, model, "committee-member/music-part :: details");
+    }
+
 
     /**
      * Displays details of a music part.
@@ -9,7 +9,10 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import com.rv.band_manager.DTO.PerformanceDetail;
+import com.rv.band_manager.DTO.PerformanceSummary;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Service.*;
 
@@ -27,6 +30,7 @@ public class PerformanceController {
     private final UserService userService;
     private final PerformanceMemberServiceImpl performanceMemberService;
     private final MusicSetServiceImpl musicSetService;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /**
      * Constructor to inject dependencies.
@@ -35,14 +39,17 @@ public class PerformanceController {
      * @param userService the user service for user-related operations.
      * @param performanceMemberService the performance member service for performance member related operations.
      * @param musicSetService the music set service for music set related operations.
+     * @param authenticatedUserCache the cache used to resolve the authenticated user.
      */
     public PerformanceController(PerformanceService performanceService, UserServiceImpl userService,
                                  PerformanceMemberServiceImpl performanceMemberService,
-                                 MusicSetServiceImpl musicSetService) {
+                                 MusicSetServiceImpl musicSetService,
+                                 AuthenticatedUserCache authenticatedUserCache) {
         this.performanceService = performanceService;
         this.userService = userService;
         this.performanceMemberService = performanceMemberService;
         this.musicSetService = musicSetService;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
     /**
@@ -58,36 +65,14 @@ public class PerformanceController {
         if (authentication == null) {
             return "login"; // Redirect to login page if not authenticated
         }
-        Optional<User> userOptional = userService.getUserByEmail(authentication.getName());
+        Optional<CustomerUserDetails> userOptional = authenticatedUserCache.get(authentication.getName());
 
         if (userOptional.isPresent()) {
-            User user = userOptional.get();
+            CustomerUserDetails user = userOptional.get();
             model.addAttribute("user", user); // Add user details to the model
-            Set<Band> bands = user.getBands();
-            List<Map<String, Object>> performanceDetails = new ArrayList<>();
-
-            // Iterate through each band the user belongs to
-            for (Band band : bands) {
-                List<Performance> performances = performanceService.getPerformanceByBand(band.getId());
-                for (Performance performance : performances) {
-                    Optional<PerformanceMember> performanceMemberOptional = performanceMemberService
-                            .findByUserIdAndBandIdAndPerformanceId(user.getId(), band.getId(), performance.getId());
-
-                    if (performanceMemberOptional.isPresent()) {
-                        // Only include performances where the user is a member
-                        Boolean availability = performanceMemberOptional
-                                .map(PerformanceMember::getAvailability)
-                                .orElse(false);
-
-                        // Build performance details map
-                        Map<String, Object> performanceDetail = new HashMap<>();
-                        performanceDetail.put("performance", performance);
-                        performanceDetail.put("band", band);
-                        performanceDetail.put("availability", availability);
-                        performanceDetails.add(performanceDetail);
-                    }
-                }
-            }
+            // Load the user's performances with band and availability in a single query
+            List<PerformanceDetail> performanceDetails = performanceMemberService
+                    .getPerformanceDetailsByUserId(user.getId());
             model.addAttribute("performanceDetails", performanceDetails); // Add performance details to the model
         }
         return "performances"; // Return the view for performances
@@ -111,31 +96,9 @@ public class PerformanceController {
         if (childOpt.isPresent()) {
             User child = childOpt.get();
             model.addAttribute("child", child); // Add child details to the model
-            Set<Band> bands = child.getBands();
-            List<Map<String, Object>> performanceDetails = new ArrayList<>();
-
-            // Iterate through each band the child belongs to
-            for (Band band : bands) {
-                List<Performance> performances = performanceService.getPerformanceByBand(band.getId());
-                for (Performance performance : performances) {
-                    Optional<PerformanceMember> performanceMemberOptional = performanceMemberService
-                            .findByUserIdAndBandIdAndPerformanceId(child.getId(), band.getId(), performance.getId());
-
-                    if (performanceMemberOptional.isPresent()) {
-                        // Only include performances where the child is a member
-                        Boolean availability = performanceMemberOptional
-                                .map(PerformanceMember::getAvailability)
-                                .orElse(false);
-
-                        // Build performance details map
-                        Map<String, Object> performanceDetail = new HashMap<>();
-                        performanceDetail.put("performance", performance);
-                        performanceDetail.put("band", band);
-                        performanceDetail.put("availability", availability);
-                        performanceDetails.add(performanceDetail);
-                    }
-                }
-            }
+            // Load the child's performances with band and availability in a single query
+            List<PerformanceDetail> performanceDetails = performanceMemberService
+                    .getPerformanceDetailsByUserId(child.getId());
             model.addAttribute("performanceDetails", performanceDetails); // Add performance details to the model
         }
         return "/child/performances"; // Return the view for child's performances
@@ -154,7 +117,7 @@ public class PerformanceController {
         if (authentication == null) {
             return "login"; // Redirect to login page if not authenticated
         }
-        List<Performance> performances = performanceService.getAllPerformances();
+        List<PerformanceSummary> performances = performanceService.getPerformanceSummaries();
         model.addAttribute("performances", performances); // Add performances to the model
         return "committee-member/performances"; // Return the view for committee members
     }
@@ -216,6 +179,11 @@ public class PerformanceController {
             model.addAttribute("players", players); // Add available players to the model
             List<MusicSet> musicSets = musicSetService.getAllMusicSets();
             model.addAttribute("musicSets", musicSets); // Add all music sets to the model
+            // Compare by ID, the performance and the music sets are loaded in separate sessions
+            Set<Long> selectedMusicSetIds = performance.get().getMusicSets().stream()
+                    .map(MusicSet::getId)
+                    .collect(Collectors.toSet());
+            model.addAttribute("selectedMusicSetIds", selectedMusicSetIds);
         } else {
             model.addAttribute("errorMessage", "Performance not found"); // Add error message if not found
         }
@@ -323,6 +291,29 @@ public class PerformanceController {
         }
     }
 
+    /**
+     * Updates a performance member's availability and re-renders the performance details to swap in.
+     *
+     * @param userId the ID of the user.
+     * @param bandId the ID of the band.
+     * @param performanceId the ID of the performance.
+     * @param performanceMember the performance member object.
+     * @param bindingResult the result of validation on the performance member object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/performance/{userId}/{bandId}/{performanceId}", headers = FragmentResponses.HEADER)
+    public ModelAndView updatePerformanceMemberFragment(@PathVariable Long userId,
+                                                        @PathVariable Long bandId,
+                                                        @PathVariable Long performanceId,
+                                                        @Valid @RequestBody PerformanceMember performanceMember,
+                                                        BindingResult bindingResult,
+                                                        Model model) {
+        ResponseEntity<?> result = updatePerformanceMember(userId, bandId, performanceId, performanceMember, bindingResult);
+        getPerformanceById(userId, bandId, performanceId, model);
+        return FragmentResponses.render(result, model, "performance :: details");
+    }
+
     /**
      * Updates a performance.
      *
@@ -385,6 +376,31 @@ public class PerformanceController {
         }
     }
 
+    /**
+     * Updates a performance and re-renders its details for the committee member performance page to swap in.
+     *
+     * @param id the ID of the performance.
+     * @param performance the performance object.
+     * @param musicSetIds the list of music set ID to add.
+     * @param seniorBand optional flag indicating if the senior band is involved in the performance.
+     * @param trainingBand optional flag indicating if the training band is involved in the performance.
+     * @param bindingResult the result of validation on the performance object.
+     * @param model the model to add attribute for rendering.
+     * @return the details fragment, showing the result of the update.
+     */
+    @PutMapping(value = "/committee-member/performance/{id}", headers = FragmentResponses.HEADER)
+    public ModelAndView updatePerformanceFragment(@PathVariable Long id,
+                                                  @Valid @RequestBody Performance performance,
+                                                  @RequestParam(value = "musicSets") List<Long> musicSetIds,
+                                                  @RequestParam(value = "seniorBand", required = false) Boolean seniorBand,
+                                                  @RequestParam(value = "trainingBand", required = false) Boolean trainingBand,
+                                                  BindingResult bindingResult,
+                                                  Model model) {
+        ResponseEntity<?> result = updatePerformance(id, performance, musicSetIds, seniorBand, trainingBand, bindingResult);
+        getPerformanceByIdCommitteeMember(id, model);
+        return FragmentResponses.render(result, model, "committee-member/performance :: details");
+    }
+
     /**
      * Deletes a performance.
      *
@@ -0,0 +1,45 @@
+package com.rv.band_manager.Controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.rv.band_manager.StatusEventBroadcaster;
+import com.rv.band_manager.Service.AuthenticatedUserCache;
+import com.rv.band_manager.Service.CustomerUserDetails;
+
+/**
+ * Controller for the stream of music order and loan status changes of the signed in member.
+ */
+@RestController
+public class StatusEventController {
+    private final StatusEventBroadcaster statusEventBroadcaster;
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    /**
+     * Constructor to inject required services.
+     *
+     * @param statusEventBroadcaster the broadcaster the stream is registered with.
+     * @param authenticatedUserCache the cache used to resolve the authenticated user.
+     */
+    public StatusEventController(StatusEventBroadcaster statusEventBroadcaster,
+                                 AuthenticatedUserCache authenticatedUserCache) {
+        this.statusEventBroadcaster = statusEventBroadcaster;
+        this.authenticatedUserCache = authenticatedUserCache;
+    }
+
+    /**
+     * Opens a server-sent event stream of the member's music order and loan status changes.
+     *
+     * @return the emitter the status changes are sent through.
+     */
+    @GetMapping(value = "/status-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter statusEvents() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomerUserDetails user = authenticatedUserCache.get(authentication.getName())
+                .orElseThrow(() -> new IllegalStateException("User not found"));
+        return statusEventBroadcaster.connect(user.getId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.rv.band_manager.DTO;
+
+/**
+ * Read model for a user matched by email while enrolling members into a band in bulk.
+ * Holds only what is needed to decide whether a band_member row has to be inserted, without loading the user entity.
+ */
+public class BandMemberCandidate {
+
+    private final Long id; // ID of the user
+    private final String email; // Email the user was matched by
+    private final Boolean member; // Whether the user is already in the band
+
+    // Constructor used by the JPQL constructor expression in UserRepository
+    public BandMemberCandidate(Long id, String email, Boolean member) {
+        this.id = id;
+        this.email = email;
+        this.member = member;
+    }
+
+    // Getters for accessing the fields from services
+
+    public Long getId() {
+        return id; // Returns the ID of the user
+    }
+
+    public String getEmail() {
+        return email; // Returns the email the user was matched by
+    }
+
+    public Boolean getMember() {
+        return member; // Returns whether the user is already in the band
+    }
+}
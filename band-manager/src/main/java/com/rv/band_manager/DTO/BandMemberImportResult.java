@@ -0,0 +1,18 @@
+package com.rv.band_manager.DTO;
+
+/**
+ * Outcome of one row of a bulk band member upload, as written to the upload's report.
+ */
+public enum BandMemberImportResult {
+    // The user was added to the band
+    ADDED,
+
+    // The user was already in the band
+    ALREADY_MEMBER,
+
+    // No user without a parent relationship has this email
+    NOT_FOUND,
+
+    // The row has no email address
+    INVALID
+}
@@ -0,0 +1,53 @@
+package com.rv.band_manager.DTO;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for a row of a loan history.
+ * Holds the loan's details with the name and make of the loaned item, without loading the borrower.
+ */
+public class LoanSummary {
+
+    private final Long id; // ID of the loan
+    private final String name; // Name of the loaned item
+    private final String make; // Make of the loaned item
+    private final Integer quantity; // Quantity loaned
+    private final LocalDate date; // Date the loan started
+    private final Boolean returned; // Whether the loan has been returned
+
+    // Constructor used by the JPQL constructor expressions in the loan repositories
+    public LoanSummary(Long id, String name, String make, Integer quantity, LocalDate date, Boolean returned) {
+        this.id = id;
+        this.name = name;
+        this.make = make;
+        this.quantity = quantity;
+        this.date = date;
+        this.returned = returned;
+    }
+
+    // Getters for accessing the fields from services and views
+
+    public Long getId() {
+        return id; // Returns the ID of the loan
+    }
+
+    public String getName() {
+        return name; // Returns the name of the loaned item
+    }
+
+    public String getMake() {
+        return make; // Returns the make of the loaned item
+    }
+
+    public Integer getQuantity() {
+        return quantity; // Returns the quantity loaned
+    }
+
+    public LocalDate getDate() {
+        return date; // Returns the date the loan started
+    }
+
+    public Boolean getReturned() {
+        return returned; // Returns whether the loan has been returned
+    }
+}
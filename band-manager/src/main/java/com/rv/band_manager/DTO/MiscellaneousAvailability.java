@@ -0,0 +1,58 @@
+package com.rv.band_manager.DTO;
+
+/**
+ * Read model for the stock of a miscellaneous item.
+ * Holds the item's details with its total quantity, the quantity currently on loan and the quantity available.
+ */
+public class MiscellaneousAvailability {
+
+    private final Long id; // ID of the miscellaneous item
+    private final String name; // Name of the miscellaneous item
+    private final String make; // Make or brand of the miscellaneous item
+    private final Integer quantity; // Total quantity of the miscellaneous item
+    private final String specificForInstrument; // Instrument the item is specific to, if any
+    private final Integer loanedQuantity; // Quantity currently on loan (not returned)
+    private final Integer availableQuantity; // Quantity left to loan
+
+    // Constructor used by the JPQL constructor expressions in MiscellaneousRepository
+    public MiscellaneousAvailability(Long id, String name, String make, Integer quantity,
+                                     String specificForInstrument, Integer loanedQuantity) {
+        this.id = id;
+        this.name = name;
+        this.make = make;
+        this.quantity = quantity;
+        this.specificForInstrument = specificForInstrument;
+        this.loanedQuantity = loanedQuantity;
+        this.availableQuantity = quantity - this.loanedQuantity;
+    }
+
+    // Getters for accessing the fields from services and views
+
+    public Long getId() {
+        return id; // Returns the ID of the miscellaneous item
+    }
+
+    public String getName() {
+        return name; // Returns the name of the miscellaneous item
+    }
+
+    public String getMake() {
+        return make; // Returns the make of the miscellaneous item
+    }
+
+    public Integer getQuantity() {
+        return quantity; // Returns the total quantity of the miscellaneous item
+    }
+
+    public String getSpecificForInstrument() {
+        return specificForInstrument; // Returns the instrument specificity of the miscellaneous item
+    }
+
+    public Integer getLoanedQuantity() {
+        return loanedQuantity; // Returns the quantity currently on loan
+    }
+
+    public Integer getAvailableQuantity() {
+        return availableQuantity; // Returns the quantity left to loan
+    }
+}
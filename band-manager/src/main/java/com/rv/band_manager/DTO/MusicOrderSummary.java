@@ -0,0 +1,45 @@
+package com.rv.band_manager.DTO;
+
+import com.rv.band_manager.Model.MusicOrder;
+import com.rv.band_manager.Model.MusicPart;
+
+import java.util.List;
+
+/**
+ * Read model for the orders section of a member's or child's music page.
+ * Holds the orders split by status and the parts already handed out through fulfilled orders.
+ */
+public class MusicOrderSummary {
+
+    private final List<MusicOrder> notReady; // Orders still being filled in
+    private final List<MusicOrder> ready; // Orders waiting to be handed out
+    private final List<MusicOrder> fulfilled; // Orders handed out, including archived ones
+    private final List<MusicPart> partsHeld; // Parts of the fulfilled orders, each listed once
+
+    // Constructor used by MusicOrderServiceImpl after partitioning the fetched orders
+    public MusicOrderSummary(List<MusicOrder> notReady, List<MusicOrder> ready, List<MusicOrder> fulfilled,
+                             List<MusicPart> partsHeld) {
+        this.notReady = notReady;
+        this.ready = ready;
+        this.fulfilled = fulfilled;
+        this.partsHeld = partsHeld;
+    }
+
+    // Getters for accessing the fields from the controller
+
+    public List<MusicOrder> getNotReady() {
+        return notReady; // Returns the orders not ready yet
+    }
+
+    public List<MusicOrder> getReady() {
+        return ready; // Returns the ready orders
+    }
+
+    public List<MusicOrder> getFulfilled() {
+        return fulfilled; // Returns the fulfilled orders
+    }
+
+    public List<MusicPart> getPartsHeld() {
+        return partsHeld; // Returns the parts held through fulfilled orders
+    }
+}
@@ -0,0 +1,45 @@
+package com.rv.band_manager.DTO;
+
+/**
+ * Read model for a row of the music set catalogue.
+ * Holds the music set's own columns without its bands, parts or performances.
+ */
+public class MusicSetSummary {
+
+    private final Long id; // ID of the music set
+    private final String title; // Title of the music set
+    private final String composer; // Composer of the music set
+    private final String arranger; // Arranger of the music set
+    private final boolean suitableForTraining; // Whether the training band can play the music set
+
+    // Constructor used by the JPQL constructor expression in MusicSetRepository
+    public MusicSetSummary(Long id, String title, String composer, String arranger, boolean suitableForTraining) {
+        this.id = id;
+        this.title = title;
+        this.composer = composer;
+        this.arranger = arranger;
+        this.suitableForTraining = suitableForTraining;
+    }
+
+    // Getters for accessing the fields from services and views
+
+    public Long getId() {
+        return id; // Returns the ID of the music set
+    }
+
+    public String getTitle() {
+        return title; // Returns the title of the music set
+    }
+
+    public String getComposer() {
+        return composer; // Returns the composer of the music set
+    }
+
+    public String getArranger() {
+        return arranger; // Returns the arranger of the music set
+    }
+
+    public boolean getSuitableForTraining() {
+        return suitableForTraining; // Returns whether the training band can play the music set
+    }
+}
@@ -0,0 +1,36 @@
+package com.rv.band_manager.DTO;
+
+import com.rv.band_manager.Model.Band;
+import com.rv.band_manager.Model.Performance;
+
+/**
+ * Read model for a single row of a member's performance dashboard.
+ * Combines a performance, the band the member plays in for it, and the member's availability.
+ */
+public class PerformanceDetail {
+
+    private final Performance performance; // The performance the member is rostered for
+    private final Band band; // The band the member is rostered in
+    private final Boolean availability; // The member's availability for the performance
+
+    // Constructor used by the JPQL constructor expression in PerformanceMemberRepository
+    public PerformanceDetail(Performance performance, Band band, Boolean availability) {
+        this.performance = performance;
+        this.band = band;
+        this.availability = availability;
+    }
+
+    // Getters for accessing the fields from the view
+
+    public Performance getPerformance() {
+        return performance; // Returns the performance
+    }
+
+    public Band getBand() {
+        return band; // Returns the band
+    }
+
+    public Boolean getAvailability() {
+        return availability; // Returns the availability of the member
+    }
+}
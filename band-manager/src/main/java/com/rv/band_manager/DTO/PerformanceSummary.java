@@ -0,0 +1,63 @@
+package com.rv.band_manager.DTO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read model for a row of the performance list.
+ * Holds the performance's details with the titles of its playlist, without loading the bands or music sets.
+ */
+public class PerformanceSummary {
+
+    private final Long id; // ID of the performance
+    private final LocalDate date; // Date of the performance
+    private final LocalTime time; // Time of the performance
+    private final String location; // Location of the performance
+    private final List<String> musicSetTitles = new ArrayList<>(); // Titles of the music sets on the playlist
+
+    // Constructor used by the JPQL constructor expression in PerformanceRepository, one row per playlist entry
+    public PerformanceSummary(Long id, LocalDate date, LocalTime time, String location, String musicSetTitle) {
+        this.id = id;
+        this.date = date;
+        this.time = time;
+        this.location = location;
+        if (musicSetTitle != null) {
+            musicSetTitles.add(musicSetTitle);
+        }
+    }
+
+    /**
+     * Adds the playlist titles of another row of the same performance.
+     *
+     * @param other A row of the same performance.
+     * @return This summary, holding the titles of both rows.
+     */
+    public PerformanceSummary withMusicSetTitles(PerformanceSummary other) {
+        musicSetTitles.addAll(other.musicSetTitles);
+        return this;
+    }
+
+    // Getters for accessing the fields from services and views
+
+    public Long getId() {
+        return id; // Returns the ID of the performance
+    }
+
+    public LocalDate getDate() {
+        return date; // Returns the date of the performance
+    }
+
+    public LocalTime getTime() {
+        return time; // Returns the time of the performance
+    }
+
+    public String getLocation() {
+        return location; // Returns the location of the performance
+    }
+
+    public List<String> getMusicSetTitles() {
+        return musicSetTitles; // Returns the titles of the music sets on the playlist
+    }
+}
@@ -0,0 +1,45 @@
+package com.rv.band_manager.DTO;
+
+/**
+ * Read model for a row of a band member list.
+ * Holds the member's contact details, with the parent's email and phone number for a child, without loading the user entity.
+ */
+public class UserSummary {
+
+    private final Long id; // ID of the user
+    private final String fullName; // Full name of the user
+    private final String email; // Email to contact, the parent's for a child
+    private final String phoneNumber; // Phone number to contact, the parent's for a child
+    private final Boolean parentContact; // Whether the contact details are the parent's
+
+    // Constructor used by the JPQL constructor expression in UserRepository
+    public UserSummary(Long id, String fullName, String email, String phoneNumber, Boolean parentContact) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.parentContact = parentContact;
+    }
+
+    // Getters for accessing the fields from services and views
+
+    public Long getId() {
+        return id; // Returns the ID of the user
+    }
+
+    public String getFullName() {
+        return fullName; // Returns the full name of the user
+    }
+
+    public String getEmail() {
+        return email; // Returns the email to contact
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber; // Returns the phone number to contact
+    }
+
+    public Boolean getParentContact() {
+        return parentContact; // Returns whether the contact details are the parent's
+    }
+}
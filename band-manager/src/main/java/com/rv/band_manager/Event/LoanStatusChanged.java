@@ -0,0 +1,43 @@
+package com.rv.band_manager.Event;
+
+import com.rv.band_manager.DTO.LoanSummary;
+
+/**
+ * Domain event published when a loan is made or returned.
+ * Carries the loan as a history row so the borrower's loans page can update it in place.
+ */
+public class LoanStatusChanged {
+
+    /**
+     * The kinds of item a loan can be for, each with its own table on the loans page.
+     */
+    public enum LoanType {
+        INSTRUMENT,
+        MISCELLANEOUS
+    }
+
+    private final LoanType loanType; // Kind of item loaned
+    private final Long userId; // ID of the borrower
+    private final LoanSummary loan; // The loan after the change
+
+    // Constructor taking the borrower and the loan after the change has been saved
+    public LoanStatusChanged(LoanType loanType, Long userId, LoanSummary loan) {
+        this.loanType = loanType;
+        this.userId = userId;
+        this.loan = loan;
+    }
+
+    // Getters for accessing the fields from listeners and the event stream
+
+    public LoanType getLoanType() {
+        return loanType; // Returns the kind of item loaned
+    }
+
+    public Long getUserId() {
+        return userId; // Returns the ID of the borrower
+    }
+
+    public LoanSummary getLoan() {
+        return loan; // Returns the loan after the change
+    }
+}
@@ -0,0 +1,50 @@
+package com.rv.band_manager.Event;
+
+import com.rv.band_manager.Model.MusicOrder;
+import com.rv.band_manager.Model.OrderStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Domain event published when a music order changes status.
+ * Carries the columns of an order row so the owner's music page can update it in place.
+ */
+public class MusicOrderStatusChanged {
+
+    private final Long id; // ID of the music order
+    private final Long ownerId; // ID of the user who placed the order
+    private final LocalDate date; // Date the order was placed
+    private final OrderStatus status; // New status of the order
+    private final boolean childOrder; // Whether the order was placed for a child
+
+    // Constructor taking the order after its status has been saved
+    public MusicOrderStatusChanged(MusicOrder musicOrder) {
+        this.id = musicOrder.getId();
+        this.ownerId = musicOrder.getOwner().getId();
+        this.date = musicOrder.getDate();
+        this.status = musicOrder.getStatus();
+        this.childOrder = musicOrder.getChild() != null;
+    }
+
+    // Getters for accessing the fields from listeners and the event stream
+
+    public Long getId() {
+        return id; // Returns the ID of the music order
+    }
+
+    public Long getOwnerId() {
+        return ownerId; // Returns the ID of the user who placed the order
+    }
+
+    public LocalDate getDate() {
+        return date; // Returns the date the order was placed
+    }
+
+    public OrderStatus getStatus() {
+        return status; // Returns the new status of the order
+    }
+
+    public boolean isChildOrder() {
+        return childOrder; // Returns whether the order was placed for a child
+    }
+}
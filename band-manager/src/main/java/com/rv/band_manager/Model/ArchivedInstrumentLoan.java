@@ -0,0 +1,58 @@
+package com.rv.band_manager.Model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Declares a read-only archived instrument loan entity mapped to the 'instrument_loans_archive' database table.
+ * Returned loans are moved here from 'instrument_loans' by the archive job, keeping their original ID.
+ */
+@Entity
+@Immutable // Archived loans are never updated through the ORM
+@Table(name = "instrument_loans_archive") // Maps this entity to the "instrument_loans_archive" table in the database
+public class ArchivedInstrumentLoan {
+
+    @Id // Keeps the ID the loan had in "instrument_loans"
+    private Long id;
+
+    @ManyToOne // Many-to-One relationship: multiple loans can be linked to a single user
+    @JoinColumn(name = "user_id") // Foreign key column in the database linking to the user
+    private User user;
+
+    @ManyToOne // Many-to-One relationship: multiple loans can be linked to a single instrument
+    @JoinColumn(name = "instrument_id") // Foreign key column in the database linking to the instrument
+    private Instrument instrument;
+
+    private LocalDate date; // Represents the date when the instrument was loaned
+
+    private Boolean returned; // Always true, kept so archived rows read like live ones
+
+    private LocalDate archivedOn; // Represents the date when the loan was moved to the archive
+
+    // Constructors
+
+    protected ArchivedInstrumentLoan() {} // Default constructor, archived loans are only created by the archive job
+
+    // Getters
+
+    public Long getId() {
+        return id; // Returns the unique ID of the loan
+    }
+    public User getUser() {
+        return user; // Returns the user associated with the loan
+    }
+    public Instrument getInstrument() {
+        return instrument; // Returns the instrument associated with the loan
+    }
+    public LocalDate getDate() {
+        return date; // Returns the date of the loan
+    }
+    public Boolean getReturned() {
+        return returned; // Returns whether the instrument has been returned
+    }
+    public LocalDate getArchivedOn() {
+        return archivedOn; // Returns the date the loan was archived
+    }
+}
@@ -0,0 +1,63 @@
+package com.rv.band_manager.Model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Declares a read-only archived miscellaneous loan entity mapped to the 'miscellaneous_loans_archive' database table.
+ * Returned loans are moved here from 'miscellaneous_loans' by the archive job, keeping their original ID.
+ */
+@Entity
+@Immutable // Archived loans are never updated through the ORM
+@Table(name = "miscellaneous_loans_archive") // Maps this entity to the "miscellaneous_loans_archive" table in the database
+public class ArchivedMiscellaneousLoan {
+
+    @Id // Keeps the ID the loan had in "miscellaneous_loans"
+    private Long id;
+
+    @ManyToOne // Many-to-One relationship: multiple loans can be linked to a single user
+    @JoinColumn(name = "user_id") // Foreign key column linking to the user in the database
+    private User user; // The user associated with the loan
+
+    @ManyToOne // Many-to-One relationship: multiple loans can be linked to a single miscellaneous item
+    @JoinColumn(name = "miscellaneous_id") // Foreign key column linking to the miscellaneous item in the database
+    private Miscellaneous miscellaneous; // The miscellaneous item that was loaned
+
+    private LocalDate date; // Represents the date the miscellaneous item was loaned
+
+    private Integer quantity; // Represents the quantity of items loaned
+
+    private Boolean returned; // Always true, kept so archived rows read like live ones
+
+    private LocalDate archivedOn; // Represents the date when the loan was moved to the archive
+
+    // Constructors
+
+    protected ArchivedMiscellaneousLoan() {} // Default constructor, archived loans are only created by the archive job
+
+    // Getters
+
+    public Long getId() {
+        return id; // Returns the unique ID of the loan
+    }
+    public User getUser() {
+        return user; // Returns the user associated with the loan
+    }
+    public Miscellaneous getMiscellaneous() {
+        return miscellaneous; // Returns the miscellaneous item that was loaned
+    }
+    public LocalDate getDate() {
+        return date; // Returns the loan date
+    }
+    public Integer getQuantity() {
+        return quantity; // Returns the quantity of items loaned
+    }
+    public Boolean getReturned() {
+        return returned; // Returns whether the item(s) have been returned
+    }
+    public LocalDate getArchivedOn() {
+        return archivedOn; // Returns the date the loan was archived
+    }
+}
@@ -0,0 +1,72 @@
+package com.rv.band_manager.Model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Declares a read-only archived music order entity mapped to the 'music_orders_archive' database table.
+ * Fulfilled orders are moved here from 'music_orders' by the archive job, keeping their original ID.
+ */
+@Entity
+@Immutable // Archived orders are never updated through the ORM
+@Table(name = "music_orders_archive") // Maps this entity to the "music_orders_archive" table in the database
+@NamedEntityGraph(name = "ArchivedMusicOrder.musicParts", attributeNodes = @NamedAttributeNode("musicParts")) // Order view lists its parts
+public class ArchivedMusicOrder {
+
+    @Id // Keeps the ID the order had in "music_orders"
+    private Long id;
+
+    @ManyToOne // Many-to-One relationship: multiple orders can be linked to a single owner
+    @JoinColumn(name = "owner_id", nullable = false) // Foreign key column for the owner, cannot be null
+    private User owner; // The adult owner (parent or independent member)
+
+    @ManyToOne // Many-to-One relationship: multiple orders can be linked to a single child
+    @JoinColumn(name = "child_id") // Foreign key column for the child, optional
+    private User child; // Optional: The child on behalf of whom the order was made
+
+    private LocalDate date; // The date the music order was created
+
+    private OrderStatus status; // The status of the order, always fulfilled
+
+    private LocalDate archivedOn; // The date the order was moved to the archive
+
+    @ManyToMany // Many-to-Many relationship: an order can include multiple music parts
+    @JoinTable(
+            name = "music_part_orders_archive", // Join table name in the database
+            joinColumns = @JoinColumn(name = "music_order_id"), // Foreign key to this table
+            inverseJoinColumns = @JoinColumn(name = "music_part_id") // Foreign key to the music parts table
+    )
+    private Set<MusicPart> musicParts = new HashSet<>(); // The music parts included in the order
+
+    // Constructors
+
+    protected ArchivedMusicOrder() {} // Default constructor, archived orders are only created by the archive job
+
+    // Getters
+
+    public Long getId() {
+        return id; // Returns the unique ID of the music order
+    }
+    public User getOwner() {
+        return owner; // Returns the owner of the music order
+    }
+    public User getChild() {
+        return child; // Returns the child associated with the music order
+    }
+    public LocalDate getDate() {
+        return date; // Returns the date of the music order
+    }
+    public OrderStatus getStatus() {
+        return status; // Returns the status of the music order
+    }
+    public LocalDate getArchivedOn() {
+        return archivedOn; // Returns the date the order was archived
+    }
+    public Set<MusicPart> getMusicParts() {
+        return musicParts; // Returns the music parts included in the order
+    }
+}
@@ -2,6 +2,8 @@ package com.rv.band_manager.Model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 
 import java.util.HashSet;
@@ -12,6 +14,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "bands") // Specifies the table name in the database
+@Cacheable // Stores bands in the second-level cache, they rarely change
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Band {
 
     @Id
@@ -33,6 +37,7 @@ public class Band {
     private Set<User> users = new HashSet<>(); // Holds the users associated with the band
 
     @ManyToMany(mappedBy = "bands") // Many-to-Many relationship with music sets, mapped by the "bands" field in MusicSet
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // Inverse side, evicted explicitly by ReferenceDataCache
     private Set<MusicSet> musicSets = new HashSet<>(); // Holds the music sets associated with the band
 
     // Constructors
@@ -1,6 +1,8 @@
 package com.rv.band_manager.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 
 import java.util.HashSet;
@@ -11,6 +13,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "instruments") // Specifies the database table name for the Instrument entity
+@Cacheable // Stores instruments in the second-level cache, they rarely change
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Instrument {
 
     @Id
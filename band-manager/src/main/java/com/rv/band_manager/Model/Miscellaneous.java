@@ -3,6 +3,7 @@ package com.rv.band_manager.Model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -34,8 +35,10 @@ public class Miscellaneous {
     // Optional field specifying if the item is specific to an instrument
     private String specificForInstrument;
 
-    @Transient
-    private Integer availableQuantity;
+    // Quantity of the item currently on loan, only changed by the conditional updates in MiscellaneousRepository
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private Integer onLoanQuantity = 0;
 
     // One-to-many relationship linking this item to its associated loans, with cascading operations and orphan removal
     @OneToMany(mappedBy = "miscellaneous", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -92,12 +95,11 @@ public class Miscellaneous {
         this.specificForInstrument = specificForInstrument; // Updates the instrument specificity of the item
     }
 
-    public Integer getAvailableQuantity(){
-      return availableQuantity;
+    public Integer getOnLoanQuantity() {
+        return onLoanQuantity; // Returns the quantity of the item currently on loan
     }
-
-    public void setAvailableQuantity(Integer availableQuantity){
-      this.availableQuantity = availableQuantity;
+    public void setOnLoanQuantity(Integer onLoanQuantity) {
+        this.onLoanQuantity = onLoanQuantity; // Updates the quantity of the item currently on loan
     }
 
     public Set<MiscellaneousLoan> getMiscellaneousLoan() {
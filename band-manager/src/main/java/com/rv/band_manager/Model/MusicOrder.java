@@ -1,7 +1,6 @@
 package com.rv.band_manager.Model;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDate;
@@ -13,6 +12,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "music_orders") // Maps this entity to the "music_orders" table in the database
+@NamedEntityGraph(name = "MusicOrder.musicParts", attributeNodes = @NamedAttributeNode("musicParts")) // Order view lists its parts
 public class MusicOrder {
 
     @Id
@@ -30,8 +30,8 @@ public class MusicOrder {
     @NotNull(message = "Date is required") // Ensures the date field is mandatory
     private LocalDate date; // The date the music order was created
 
-    @NotBlank(message = "Status is required") // Ensures the status field is mandatory and non-empty
-    private String status; // The status of the order (e.g., pending, fulfilled, etc.)
+    @NotNull(message = "Status is required") // Ensures the status field is mandatory
+    private OrderStatus status; // The status of the order, stored as a smallint code
 
     @ManyToMany // Many-to-Many relationship: an order can include multiple music parts
     @JoinTable(
@@ -45,7 +45,7 @@ public class MusicOrder {
 
     public MusicOrder() {} // Default constructor
 
-    public MusicOrder(Long id, User owner, User child, LocalDate date, String status, Set<MusicPart> musicParts) {
+    public MusicOrder(Long id, User owner, User child, LocalDate date, OrderStatus status, Set<MusicPart> musicParts) {
         this.id = id;
         this.owner = owner; // Assigns the owner of the music order
         this.child = child; // Assigns the child for whom the order is made (if any)
@@ -81,10 +81,10 @@ public class MusicOrder {
     public void setDate(LocalDate date) {
         this.date = date; // Sets the date of the music order
     }
-    public String getStatus() {
+    public OrderStatus getStatus() {
         return status; // Returns the status of the music order
     }
-    public void setStatus(String status) {
+    public void setStatus(OrderStatus status) {
         this.status = status; // Sets the status of the music order
     }
     public Set<MusicPart> getMusicParts() {
@@ -1,6 +1,8 @@
 package com.rv.band_manager.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 
 import java.util.HashSet;
@@ -11,6 +13,9 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "music_parts") // Maps this entity to the "music_parts" table in the database
+@NamedEntityGraph(name = "MusicPart.musicSet", attributeNodes = @NamedAttributeNode("musicSet")) // Parts are listed with their set title
+@Cacheable // Stores music parts in the second-level cache, they rarely change
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MusicPart {
 
     @Id
@@ -1,6 +1,8 @@
 package com.rv.band_manager.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -14,6 +16,11 @@ import java.util.Set;
  */
 @Entity
 @Table(name="music_sets")
+// Fetch plan for the music set view, which lists the practising bands and the parts
+@NamedEntityGraph(name = "MusicSet.bandsAndMusicParts",
+        attributeNodes = {@NamedAttributeNode("bands"), @NamedAttributeNode("musicParts")})
+@Cacheable // Stores music sets in the second-level cache, they rarely change
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MusicSet {
 
     // Marks 'id' as the primary key for this entity with an auto-incrementing value
@@ -36,11 +43,14 @@ public class MusicSet {
     private boolean suitableForTraining;
 
     // Defines a one-to-many relationship with MusicPart, with cascading operations and orphan removal
+    // Inverse side, so the cached collection is evicted explicitly by ReferenceDataCache
     @OneToMany(mappedBy = "musicSet", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<MusicPart> musicParts = new HashSet<>();
 
     // Many-to-many relationship with Band, with a join table named "practice"
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "practice", // Specifies the name of the join table
             joinColumns = @JoinColumn(name = "music_set_id"), // Join column for MusicSet
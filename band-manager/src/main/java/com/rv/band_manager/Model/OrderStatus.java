@@ -0,0 +1,33 @@
+package com.rv.band_manager.Model;
+
+// Enum to define the stages a music order goes through, stored as a smallint code by OrderStatusConverter
+public enum OrderStatus {
+    // Represents an order the member is still adding parts to
+    NOT_READY((short) 0),
+
+    // Represents an order submitted to the committee and waiting to be handed out
+    READY((short) 1),
+
+    // Represents an order whose parts have been handed out
+    FULFILLED((short) 2);
+
+    private final short code; // The value stored in the database, never reuse or renumber
+
+    OrderStatus(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code; // Returns the database code of the status
+    }
+
+    // Returns the status stored under a database code
+    public static OrderStatus fromCode(short code) {
+        for (OrderStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status code: " + code);
+    }
+}
@@ -0,0 +1,21 @@
+package com.rv.band_manager.Model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores an OrderStatus as its fixed smallint code, so reordering the enum never changes stored data.
+ */
+@Converter(autoApply = true) // Applies to every OrderStatus attribute
+public class OrderStatusConverter implements AttributeConverter<OrderStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(OrderStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public OrderStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : OrderStatus.fromCode(code);
+    }
+}
@@ -14,6 +14,9 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "performances")
+// Fetch plan for the performance views, which list the bands and the playlist
+@NamedEntityGraph(name = "Performance.bandsAndMusicSets",
+        attributeNodes = {@NamedAttributeNode("bands"), @NamedAttributeNode("musicSets")})
 public class Performance {
 
     // Marks 'id' as the primary key for this entity, with auto-generated values
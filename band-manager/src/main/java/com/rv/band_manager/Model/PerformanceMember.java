@@ -7,6 +7,11 @@ import jakarta.persistence.*;
  */
 @Entity
 @Table(name = "performance_members")
+// Fetch plan for the player list, which checks whether each player is a child
+@NamedEntityGraph(name = "PerformanceMember.user",
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user",
+                attributeNodes = {@NamedAttributeNode("roles"), @NamedAttributeNode("parentRelationship")}))
 public class PerformanceMember {
 
     // Composite primary key for this entity, defined as an embeddable ID
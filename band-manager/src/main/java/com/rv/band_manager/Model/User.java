@@ -11,6 +11,11 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "users")
+// Fetch plan for user lists, which show the parent's details for children
+@NamedEntityGraph(name = "User.rolesAndParent",
+        attributeNodes = {@NamedAttributeNode("roles"),
+                @NamedAttributeNode(value = "parentRelationship", subgraph = "parentRelationship")},
+        subgraphs = @NamedSubgraph(name = "parentRelationship", attributeNodes = @NamedAttributeNode("parent")))
 public class User {
 
     // Marks 'id' as the primary key for this entity with auto-generated values
@@ -0,0 +1,118 @@
+package com.rv.band_manager;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Component for running the independent reads of a page concurrently, each in its own read-only
+ * transaction, so the page waits for its slowest query rather than the sum of them. Reads run on a
+ * virtual thread each when the application runs on virtual threads, and on Boot's application task
+ * executor otherwise. Either way, a semaphore keeps the number of reads at once below the connection
+ * pool size, leaving connections for writes under load.
+ */
+@Component
+public class ParallelReads {
+    private final Executor executor;
+    private final ExecutorService virtualThreadExecutor;
+    private final Semaphore permits;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Constructor for ParallelReads.
+     *
+     * @param transactionManager The transaction manager each read runs in.
+     * @param applicationTaskExecutor Boot's task executor, which the reads run on in platform thread mode.
+     * @param virtualThreads Whether the application runs on virtual threads.
+     * @param threads The number of reads that may run at once across all requests.
+     */
+    public ParallelReads(PlatformTransactionManager transactionManager,
+                         @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                         @Value("${parallel-reads.threads}") int threads) {
+        //A fixed platform pool would cap the database concurrency of these pages in virtual thread mode
+        this.virtualThreadExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("parallel-read-", 1).factory())
+                : null;
+        this.executor = virtualThreads ? virtualThreadExecutor : applicationTaskExecutor;
+        this.permits = new Semaphore(threads);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Opens a scope to fork the reads of one request into.
+     *
+     * @return A new, empty scope.
+     */
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        //Boot's executor is shut down by the context
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * The reads forked for one request. Results are available once the scope has been joined.
+     */
+    public class Scope {
+        private final List<CompletableFuture<?>> forks = new ArrayList<>();
+
+        private Scope() {
+        }
+
+        /**
+         * Starts a read in its own read-only transaction.
+         *
+         * @param read The read to run, it must not depend on the request thread's state.
+         * @param <T> The type of the result.
+         * @return A supplier of the result, to be called after {@link #join()}.
+         */
+        public <T> Supplier<T> fork(Supplier<T> read) {
+            CompletableFuture<T> fork = CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return readOnlyTransaction.execute(status -> read.get());
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+            forks.add(fork);
+            return fork::join;
+        }
+
+        /**
+         * Waits for every forked read to finish.
+         *
+         * @throws RuntimeException The exception of the first read that failed.
+         */
+        public void join() {
+            try {
+                CompletableFuture.allOf(forks.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
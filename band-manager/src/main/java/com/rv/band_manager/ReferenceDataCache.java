@@ -0,0 +1,52 @@
+package com.rv.band_manager;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+import com.rv.band_manager.Model.Band;
+import com.rv.band_manager.Model.MusicSet;
+
+import java.util.Collection;
+
+/**
+ * Component for evicting second-level cache entries that Hibernate does not invalidate by itself.
+ * Entity and query cache regions are invalidated automatically on ORM writes, but collections
+ * cached on the inverse side of an association (Band.musicSets, MusicSet.musicParts) are not.
+ */
+@Component
+public class ReferenceDataCache {
+    private static final String BAND_MUSIC_SETS = Band.class.getName() + ".musicSets";
+    private static final String MUSIC_SET_PARTS = MusicSet.class.getName() + ".musicParts";
+
+    private final Cache cache;
+
+    /**
+     * Constructor for ReferenceDataCache.
+     *
+     * @param entityManagerFactory The factory whose second-level cache is managed.
+     */
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    /**
+     * Evicts the cached music sets of the given bands.
+     *
+     * @param bands The bands whose music set collection has changed.
+     */
+    public void evictBandMusicSets(Collection<Band> bands) {
+        for (Band band : bands) {
+            cache.evictCollectionData(BAND_MUSIC_SETS, band.getId());
+        }
+    }
+
+    /**
+     * Evicts the cached music parts of a music set.
+     *
+     * @param musicSetId The ID of the music set whose part collection has changed.
+     */
+    public void evictMusicSetParts(Long musicSetId) {
+        cache.evictCollectionData(MUSIC_SET_PARTS, musicSetId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.rv.band_manager.Repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.LoanSummary;
+import com.rv.band_manager.Model.ArchivedInstrumentLoan;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+//Read-only access to archived instrument loans, rows are only written by InstrumentLoanRepository.archiveReturnedBefore
+public interface ArchivedInstrumentLoanRepository extends Repository<ArchivedInstrumentLoan, Long> {
+  Optional<ArchivedInstrumentLoan> findById(Long id);
+  List<ArchivedInstrumentLoan> findAll();
+  List<ArchivedInstrumentLoan> findByUserId(Long userId);
+
+  //Retrieves a page of archived loans older than the (date, id) cursor, newest first
+  @Query("""
+    SELECT new com.rv.band_manager.DTO.LoanSummary(il.id, i.name, i.make, 1, il.date, il.returned)
+    FROM ArchivedInstrumentLoan il JOIN il.instrument i
+    WHERE (il.date, il.id) < (:beforeDate, :beforeId)
+    ORDER BY il.date DESC, il.id DESC
+    """)
+  List<LoanSummary> findLoanSummariesBefore(@Param("beforeDate") LocalDate beforeDate,
+                                            @Param("beforeId") Long beforeId, Limit limit);
+}
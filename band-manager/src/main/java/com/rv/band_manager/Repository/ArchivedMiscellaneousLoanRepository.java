@@ -0,0 +1,29 @@
+package com.rv.band_manager.Repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.LoanSummary;
+import com.rv.band_manager.Model.ArchivedMiscellaneousLoan;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+//Read-only access to archived miscellaneous loans, rows are only written by MiscellaneousLoanRepository.archiveReturnedBefore
+public interface ArchivedMiscellaneousLoanRepository extends Repository<ArchivedMiscellaneousLoan, Long> {
+  Optional<ArchivedMiscellaneousLoan> findById(Long id);
+  List<ArchivedMiscellaneousLoan> findAll();
+  List<ArchivedMiscellaneousLoan> findByUserId(Long userId);
+
+  //Retrieves a page of archived loans older than the (date, id) cursor, newest first
+  @Query("""
+    SELECT new com.rv.band_manager.DTO.LoanSummary(ml.id, m.name, m.make, ml.quantity, ml.date, ml.returned)
+    FROM ArchivedMiscellaneousLoan ml JOIN ml.miscellaneous m
+    WHERE (ml.date, ml.id) < (:beforeDate, :beforeId)
+    ORDER BY ml.date DESC, ml.id DESC
+    """)
+  List<LoanSummary> findLoanSummariesBefore(@Param("beforeDate") LocalDate beforeDate,
+                                            @Param("beforeId") Long beforeId, Limit limit);
+}
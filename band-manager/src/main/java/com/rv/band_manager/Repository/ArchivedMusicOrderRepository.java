@@ -0,0 +1,52 @@
+package com.rv.band_manager.Repository;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.Model.ArchivedMusicOrder;
+
+import java.util.List;
+import java.util.Optional;
+
+//Read-only access to archived music orders, rows are only written by the MusicOrderRepository archive statements
+public interface ArchivedMusicOrderRepository extends Repository<ArchivedMusicOrder, Long> {
+    //Finds archived MusicOrder entities, all archived orders are fulfilled
+    Optional<ArchivedMusicOrder> findById(Long id);
+    List<ArchivedMusicOrder> findAll();
+    List<ArchivedMusicOrder> findByOwnerId(Long ownerId);
+    List<ArchivedMusicOrder> findByChildId(Long childId);
+
+    //Finds all archived MusicOrder entities of an owner, including their children's, with parts and sets in a single query
+    //The users' parent relationships are fetched too, as an unfetched inverse one-to-one is selected once per row
+    @Query("""
+    SELECT DISTINCT ao FROM ArchivedMusicOrder ao
+    JOIN FETCH ao.owner o
+    LEFT JOIN FETCH o.parentRelationship
+    LEFT JOIN FETCH ao.child c
+    LEFT JOIN FETCH c.parentRelationship
+    LEFT JOIN FETCH ao.musicParts mp
+    LEFT JOIN FETCH mp.musicSet
+    WHERE ao.owner.id = :ownerId
+    ORDER BY ao.id
+    """)
+    List<ArchivedMusicOrder> findWithMusicPartsByOwnerId(@Param("ownerId") Long ownerId);
+
+    //Finds all archived MusicOrder entities made for a child with parts and sets in a single query
+    @Query("""
+    SELECT DISTINCT ao FROM ArchivedMusicOrder ao
+    JOIN FETCH ao.owner o
+    LEFT JOIN FETCH o.parentRelationship
+    JOIN FETCH ao.child c
+    LEFT JOIN FETCH c.parentRelationship
+    LEFT JOIN FETCH ao.musicParts mp
+    LEFT JOIN FETCH mp.musicSet
+    WHERE ao.child.id = :childId
+    ORDER BY ao.id
+    """)
+    List<ArchivedMusicOrder> findWithMusicPartsByChildId(@Param("childId") Long childId);
+
+    //Finds an archived MusicOrder entity with its music parts
+    @EntityGraph(value = "ArchivedMusicOrder.musicParts", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<ArchivedMusicOrder> findWithMusicPartsById(Long id);
+}
@@ -1,10 +1,14 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import com.rv.band_manager.Model.Band;
 
 import java.util.Optional;
 
 public interface BandRepository extends JpaRepository<Band, Long> {
+    //Band lookups by name are hot and rarely change, so the result is kept in the query cache
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Band> findByName(String bandName);
 }
@@ -1,8 +1,17 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.LoanSummary;
 import com.rv.band_manager.Model.InstrumentLoan;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +19,37 @@ public interface InstrumentLoanRepository extends JpaRepository<InstrumentLoan,
   List<InstrumentLoan> findByUserId(Long userId);
   List<InstrumentLoan> findByUserIdAndReturned(Long userId, Boolean returned);
   List<InstrumentLoan> findByReturned(Boolean returned);
+  boolean existsByInstrumentIdAndReturned(Long instrumentId, Boolean returned);
+
+  //Retrieves a page of loans older than the (date, id) cursor, newest first, using the (returned, date, id) index
+  @Query("""
+    SELECT new com.rv.band_manager.DTO.LoanSummary(il.id, i.name, i.make, 1, il.date, il.returned)
+    FROM InstrumentLoan il JOIN il.instrument i
+    WHERE il.returned = :returned
+    AND (il.date, il.id) < (:beforeDate, :beforeId)
+    ORDER BY il.date DESC, il.id DESC
+    """)
+  List<LoanSummary> findLoanSummariesBefore(@Param("returned") Boolean returned,
+                                            @Param("beforeDate") LocalDate beforeDate,
+                                            @Param("beforeId") Long beforeId, Limit limit);
+
+  //Moves a batch of returned loans dated before the cutoff into the archive in a single statement, returns the rows moved
+  @Modifying
+  @Transactional
+  @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "instrument_loans,instrument_loans_archive"))
+  @Query(value = """
+    WITH moved AS (
+        DELETE FROM instrument_loans
+        WHERE id IN (
+            SELECT id FROM instrument_loans
+            WHERE returned = TRUE AND date < :cutoff
+            ORDER BY id
+            LIMIT :batchSize
+        )
+        RETURNING id, user_id, instrument_id, date, returned
+    )
+    INSERT INTO instrument_loans_archive (id, user_id, instrument_id, date, returned, archived_on)
+    SELECT id, user_id, instrument_id, date, returned, CURRENT_DATE FROM moved
+    """, nativeQuery = true)
+  int archiveReturnedBefore(@Param("cutoff") LocalDate cutoff, @Param("batchSize") int batchSize);
 }
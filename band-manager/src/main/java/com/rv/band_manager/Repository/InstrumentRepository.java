@@ -1,8 +1,11 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.rv.band_manager.Model.Instrument;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,5 +29,11 @@ public interface InstrumentRepository extends JpaRepository<Instrument, Long> {
     )
     """)
     List<Instrument> findInstrumentsLoaned();
+
+  //Serial number lookups are kept in the query cache as instruments rarely change
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Instrument> findBySerialNumber(String serialNumber);
+
+  //Retrieves a page of instruments after the ID cursor, in ID order
+    List<Instrument> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -1,10 +1,17 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import com.rv.band_manager.DTO.LoanSummary;
 import com.rv.band_manager.Model.MiscellaneousLoan;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +23,42 @@ public interface MiscellaneousLoanRepository extends JpaRepository<Miscellaneous
   @Query("SELECT SUM(ml.quantity) FROM MiscellaneousLoan ml WHERE ml.miscellaneous.id = :miscId AND ml.returned=FALSE")
   Integer sumLoanedQuantityByMiscellaneousId(@Param("miscId") Long miscId);
 
+  //Marks a loan as returned only if it has not been returned yet, returns the rows updated
+  @Modifying(flushAutomatically = true)
+  @Transactional
+  @Query("UPDATE MiscellaneousLoan ml SET ml.returned = TRUE WHERE ml.id = :loanId AND ml.returned = FALSE")
+  int markReturned(@Param("loanId") Long loanId);
+
+  //Retrieves a page of loans older than the (date, id) cursor, newest first, using the (returned, date, id) index
+  @Query("""
+    SELECT new com.rv.band_manager.DTO.LoanSummary(ml.id, m.name, m.make, ml.quantity, ml.date, ml.returned)
+    FROM MiscellaneousLoan ml JOIN ml.miscellaneous m
+    WHERE ml.returned = :returned
+    AND (ml.date, ml.id) < (:beforeDate, :beforeId)
+    ORDER BY ml.date DESC, ml.id DESC
+    """)
+  List<LoanSummary> findLoanSummariesBefore(@Param("returned") Boolean returned,
+                                            @Param("beforeDate") LocalDate beforeDate,
+                                            @Param("beforeId") Long beforeId, Limit limit);
+
+  //Moves a batch of returned loans dated before the cutoff into the archive in a single statement, returns the rows moved
+  @Modifying
+  @Transactional
+  @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "miscellaneous_loans,miscellaneous_loans_archive"))
+  @Query(value = """
+    WITH moved AS (
+        DELETE FROM miscellaneous_loans
+        WHERE id IN (
+            SELECT id FROM miscellaneous_loans
+            WHERE returned = TRUE AND date < :cutoff
+            ORDER BY id
+            LIMIT :batchSize
+        )
+        RETURNING id, user_id, miscellaneous_id, date, quantity, returned
+    )
+    INSERT INTO miscellaneous_loans_archive (id, user_id, miscellaneous_id, date, quantity, returned, archived_on)
+    SELECT id, user_id, miscellaneous_id, date, quantity, returned, CURRENT_DATE FROM moved
+    """, nativeQuery = true)
+  int archiveReturnedBefore(@Param("cutoff") LocalDate cutoff, @Param("batchSize") int batchSize);
+
 }
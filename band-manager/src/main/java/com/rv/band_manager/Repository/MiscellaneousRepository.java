@@ -1,32 +1,78 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
 import com.rv.band_manager.Model.Miscellaneous;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface MiscellaneousRepository extends JpaRepository<Miscellaneous, Long> {
-  //Finds all miscellaneous not on loan
+  //Retrieves the stock of every miscellaneous item from its maintained on-loan counter
     @Query("""
-    SELECT m
+    SELECT new com.rv.band_manager.DTO.MiscellaneousAvailability(
+        m.id, m.name, m.make, m.quantity, m.specificForInstrument, m.onLoanQuantity)
     FROM Miscellaneous m
-    LEFT JOIN MiscellaneousLoan ml ON ml.miscellaneous.id = m.id
-    GROUP BY m.id
-    HAVING m.quantity - COALESCE(SUM(ml.quantity), 0) > 0    
+    ORDER BY m.id
     """)
-    List<Miscellaneous> findMiscellaneousNotLoaned();
-    
+    List<MiscellaneousAvailability> findMiscellaneousAvailability();
+
+  //Retrieves the stock of a single miscellaneous item from its maintained on-loan counter
+    @Query("""
+    SELECT new com.rv.band_manager.DTO.MiscellaneousAvailability(
+        m.id, m.name, m.make, m.quantity, m.specificForInstrument, m.onLoanQuantity)
+    FROM Miscellaneous m
+    WHERE m.id = :miscId
+    """)
+    Optional<MiscellaneousAvailability> findMiscellaneousAvailabilityById(@Param("miscId") Long miscId);
+
+  //Finds all miscellaneous with some quantity not on loan
     @Query("""
-    SELECT m
+    SELECT new com.rv.band_manager.DTO.MiscellaneousAvailability(
+        m.id, m.name, m.make, m.quantity, m.specificForInstrument, m.onLoanQuantity)
     FROM Miscellaneous m
-    LEFT JOIN MiscellaneousLoan ml ON ml.miscellaneous.id = m.id
-    GROUP BY m.id
-    HAVING m.quantity - COALESCE(SUM(ml.quantity), 0) > 0
+    WHERE m.quantity - m.onLoanQuantity > 0
+    ORDER BY m.id
     """)
+    List<MiscellaneousAvailability> findMiscellaneousNotLoaned();
+
+  //Finds all miscellaneous with some quantity on loan
+    @Query("SELECT m FROM Miscellaneous m WHERE m.onLoanQuantity > 0")
     List<Miscellaneous> findMiscellaneousLoaned();
 
     Optional<Miscellaneous> findByNameAndMake(String name, String make);
 
+  //Retrieves a page of miscellaneous items after the ID cursor, in ID order
+    List<Miscellaneous> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+  //Moves a quantity of an item onto loan only if that much is still available, returns the rows updated
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "miscellaneous"))
+    @Query(value = """
+    UPDATE miscellaneous
+    SET on_loan_quantity = on_loan_quantity + :quantity
+    WHERE id = :miscId
+    AND quantity - on_loan_quantity >= :quantity
+    """, nativeQuery = true)
+    int reserveQuantity(@Param("miscId") Long miscId, @Param("quantity") Integer quantity);
+
+  //Moves a quantity of an item back off loan
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "miscellaneous"))
+    @Query(value = """
+    UPDATE miscellaneous
+    SET on_loan_quantity = GREATEST(on_loan_quantity - :quantity, 0)
+    WHERE id = :miscId
+    """, nativeQuery = true)
+    int releaseQuantity(@Param("miscId") Long miscId, @Param("quantity") Integer quantity);
+
 }
@@ -1,20 +1,61 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import com.rv.band_manager.Model.MusicOrder;
 import com.rv.band_manager.Model.MusicPart;
+import com.rv.band_manager.Model.OrderStatus;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MusicOrderRepository extends JpaRepository<MusicOrder, Long> {
     //Finds all MusicOrder entities associated with a specific owner by their userId, status, child
     List<MusicOrder> findByOwnerId(Long userId);
-    List<MusicOrder> findByStatusAndOwnerId(String status, Long userId);
-    List<MusicOrder> findByStatusAndChildId(String status, Long childId);
-    List<MusicOrder> findByStatus(String status);
+    //Backed by the (owner_id, status), (child_id, status) and (status, date) indexes
+    List<MusicOrder> findByStatusAndOwnerId(OrderStatus status, Long userId);
+    List<MusicOrder> findByStatusAndChildId(OrderStatus status, Long childId);
+    List<MusicOrder> findByStatus(OrderStatus status);
+
+    //Finds all MusicOrder entities of an owner, including their children's, with parts and sets in a single query
+    //The users' parent relationships are fetched too, as an unfetched inverse one-to-one is selected once per row
+    @Query("""
+    SELECT DISTINCT mo FROM MusicOrder mo
+    JOIN FETCH mo.owner o
+    LEFT JOIN FETCH o.parentRelationship
+    LEFT JOIN FETCH mo.child c
+    LEFT JOIN FETCH c.parentRelationship
+    LEFT JOIN FETCH mo.musicParts mp
+    LEFT JOIN FETCH mp.musicSet
+    WHERE mo.owner.id = :ownerId
+    ORDER BY mo.id
+    """)
+    List<MusicOrder> findWithMusicPartsByOwnerId(@Param("ownerId") Long ownerId);
+
+    //Finds all MusicOrder entities made for a child with parts and sets in a single query
+    @Query("""
+    SELECT DISTINCT mo FROM MusicOrder mo
+    JOIN FETCH mo.owner o
+    LEFT JOIN FETCH o.parentRelationship
+    JOIN FETCH mo.child c
+    LEFT JOIN FETCH c.parentRelationship
+    LEFT JOIN FETCH mo.musicParts mp
+    LEFT JOIN FETCH mp.musicSet
+    WHERE mo.child.id = :childId
+    ORDER BY mo.id
+    """)
+    List<MusicOrder> findWithMusicPartsByChildId(@Param("childId") Long childId);
+
+    //Finds a MusicOrder entity with its music parts
+    @EntityGraph(value = "MusicOrder.musicParts", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<MusicOrder> findWithMusicPartsById(Long id);
 
     //Finds all adult MusicOrder entities
     @Query("SELECT mo FROM MusicOrder mo WHERE mo.owner.id = :ownerId AND mo.child IS NULL")
@@ -24,4 +65,45 @@ public interface MusicOrderRepository extends JpaRepository<MusicOrder, Long> {
     @Query("SELECT mo FROM MusicOrder mo WHERE mo.owner.id = :ownerId AND mo.child IS NOT NULL")
     List<MusicOrder> findChildMusicOrders(@Param("ownerId") Long ownerId);
 
+    //Locks a batch of orders with the status code dated before the cutoff for archiving, skipping orders other transactions hold
+    @Query(value = """
+    SELECT id FROM music_orders
+    WHERE status = :status AND date < :cutoff
+    ORDER BY id
+    LIMIT :batchSize
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockIdsBefore(@Param("status") short status, @Param("cutoff") LocalDate cutoff,
+                             @Param("batchSize") int batchSize);
+
+    //Copies locked orders into the archive, must run before their parts are moved
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "music_orders_archive"))
+    @Query(value = """
+    INSERT INTO music_orders_archive (id, owner_id, child_id, date, status, archived_on)
+    SELECT id, owner_id, child_id, date, status, CURRENT_DATE FROM music_orders
+    WHERE id IN (:ids)
+    """, nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    //Moves the parts of locked orders into the archive join table in a single statement
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "music_part_orders,music_part_orders_archive"))
+    @Query(value = """
+    WITH moved AS (
+        DELETE FROM music_part_orders
+        WHERE music_order_id IN (:ids)
+        RETURNING music_order_id, music_part_id
+    )
+    INSERT INTO music_part_orders_archive (music_order_id, music_part_id)
+    SELECT music_order_id, music_part_id FROM moved
+    """, nativeQuery = true)
+    int moveMusicPartsToArchive(@Param("ids") Collection<Long> ids);
+
+    //Deletes locked orders once they and their parts are in the archive
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "music_orders"))
+    @Query(value = "DELETE FROM music_orders WHERE id IN (:ids)", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
 }
@@ -1,7 +1,10 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import com.rv.band_manager.Model.MusicPart;
 import com.rv.band_manager.Model.User;
@@ -12,23 +15,52 @@ import java.util.Optional;
 public interface MusicPartRepository  extends JpaRepository<MusicPart, Long> {
     List<MusicPart> findByMusicSetId(Long musicSetId);
 
-    //Retrieves a list of MusicPart entities that are part of the orders associated with a specific owner
+    //Retrieves a list of MusicPart entities that are part of the fulfilled orders associated with a specific owner, archived or not
     @Query("SELECT mp FROM MusicPart mp " +
-            "JOIN mp.musicOrders mo " +
-            "WHERE mo.owner.id = :ownerId AND mo.status = 'FULFILLED'")
+            "WHERE EXISTS (SELECT mo FROM MusicOrder mo JOIN mo.musicParts op " +
+            "WHERE op = mp AND mo.owner.id = :ownerId AND mo.status = com.rv.band_manager.Model.OrderStatus.FULFILLED) " +
+            "OR EXISTS (SELECT ao FROM ArchivedMusicOrder ao JOIN ao.musicParts ap " +
+            "WHERE ap = mp AND ao.owner.id = :ownerId)")
+    @EntityGraph(value = "MusicPart.musicSet", type = EntityGraph.EntityGraphType.LOAD)
     List<MusicPart> findAllByOwnerIdAndFulfilledOrders(@Param("ownerId") Long ownerId);
 
-    //Retrieves a list of MusicPart entities that are part of the orders associated with a specific child
+    //Retrieves a list of MusicPart entities that are part of the fulfilled orders associated with a specific child, archived or not
     @Query("SELECT mp FROM MusicPart mp " +
-            "JOIN mp.musicOrders mo " +
-            "WHERE mo.child.id = :childId AND mo.status = 'FULFILLED'")
+            "WHERE EXISTS (SELECT mo FROM MusicOrder mo JOIN mo.musicParts op " +
+            "WHERE op = mp AND mo.child.id = :childId AND mo.status = com.rv.band_manager.Model.OrderStatus.FULFILLED) " +
+            "OR EXISTS (SELECT ao FROM ArchivedMusicOrder ao JOIN ao.musicParts ap " +
+            "WHERE ap = mp AND ao.child.id = :childId)")
+    @EntityGraph(value = "MusicPart.musicSet", type = EntityGraph.EntityGraphType.LOAD)
     List<MusicPart> findAllByChildIdAndFulfilledOrders(@Param("childId") Long childId);
 
+    //Retrieves the MusicPart entities practised by a user's bands that the user does not hold through a fulfilled order, archived or not
+    @Query("""
+    SELECT mp FROM MusicPart mp
+    JOIN FETCH mp.musicSet ms
+    WHERE EXISTS (
+        SELECT s FROM MusicSet s JOIN s.bands b JOIN b.users u
+        WHERE s = ms AND u.id = :userId
+    )
+    AND NOT EXISTS (
+        SELECT mo FROM MusicOrder mo JOIN mo.musicParts op
+        WHERE op = mp AND mo.status = com.rv.band_manager.Model.OrderStatus.FULFILLED
+        AND (mo.child.id = :userId OR (mo.owner.id = :userId AND mo.child IS NULL))
+    )
+    AND NOT EXISTS (
+        SELECT ao FROM ArchivedMusicOrder ao JOIN ao.musicParts ap
+        WHERE ap = mp
+        AND (ao.child.id = :userId OR (ao.owner.id = :userId AND ao.child IS NULL))
+    )
+    ORDER BY ms.title, mp.partName
+    """)
+    List<MusicPart> findNeededByUserId(@Param("userId") Long userId);
+
     //Retrieves a specific MusicPart based on its name, the title of the music set it belongs to, and the arranger
     @Query("SELECT mp FROM MusicPart mp " +
             "WHERE mp.partName = :partName " +
             "AND mp.musicSet.title = :setName " +
             "AND (:arranger IS NULL OR mp.musicSet.arranger = :arranger)")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<MusicPart> findSpecificMusicPart(@Param("partName") String partName,
                                               @Param("setName") String setName,
                                               @Param("arranger") String arranger);
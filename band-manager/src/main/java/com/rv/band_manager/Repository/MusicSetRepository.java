@@ -1,15 +1,38 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.MusicSetSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.MusicSet;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface MusicSetRepository  extends JpaRepository<MusicSet, Long> {
+    //Retrieves all MusicSet entities, kept in the query cache as the catalogue rarely changes
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<MusicSet> findAll();
+
+    //Retrieves a MusicSet entity with its bands and music parts
+    //Declared as a query, as a lookup by ID served from the second-level cache skips the entity graph
+    @Override
+    @Query("SELECT m FROM MusicSet m WHERE m.id = :id")
+    @EntityGraph(value = "MusicSet.bandsAndMusicParts", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<MusicSet> findById(@Param("id") Long id);
+
     //Retrieves a list of MusicSet entities associated with a specific band by the band's name
     @Query("SELECT m FROM MusicSet m JOIN m.bands b WHERE b.name = :bandName")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<MusicSet> findByBandName(@Param("bandName") String bandName);
+
+    //Retrieves the columns the music set catalogue renders, kept in the query cache like the entities
+    @Query("SELECT new com.rv.band_manager.DTO.MusicSetSummary(m.id, m.title, m.composer, m.arranger, m.suitableForTraining) FROM MusicSet m")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<MusicSetSummary> findSummaries();
 }
@@ -1,10 +1,14 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.PerformanceDetail;
 import com.rv.band_manager.Model.PerformanceMember;
 import com.rv.band_manager.Model.PerformanceMemberId;
 
@@ -13,8 +17,50 @@ import java.util.Optional;
 
 public interface PerformanceMemberRepository extends JpaRepository<PerformanceMember, PerformanceMemberId> {
     Optional<PerformanceMember> findByUserIdAndBandIdAndPerformanceId(Long userId, Long bandId, Long performanceId);
+    @EntityGraph(value = "PerformanceMember.user", type = EntityGraph.EntityGraphType.LOAD)
     List<PerformanceMember> findByPerformanceIdAndAvailability(Long performanceId, Boolean availability);
 
+    //Retrieves the performances a user is rostered for, with the band and availability, in a single query
+    @Query("""
+    SELECT new com.rv.band_manager.DTO.PerformanceDetail(p, b, COALESCE(pm.availability, FALSE))
+    FROM PerformanceMember pm
+    JOIN pm.performance p
+    JOIN pm.band b
+    WHERE pm.user.id = :userId
+    AND b MEMBER OF p.bands
+    AND EXISTS (
+        SELECT u FROM User u JOIN u.bands ub
+        WHERE u.id = :userId AND ub = b
+    )
+    ORDER BY p.date, p.time
+    """)
+    List<PerformanceDetail> findPerformanceDetailsByUserId(@Param("userId") Long userId);
+
+    //Adds every member of a band to a performance's roster who is not on it yet, in a single statement
+    @Modifying
+    @Transactional
+    //Only touches performance_members, so the second-level cache regions of other tables stay valid
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "performance_members"))
+    @Query(value = """
+    INSERT INTO performance_members (user_id, band_id, performance_id)
+    SELECT bm.user_id, bm.band_id, :performanceId
+    FROM band_member bm
+    WHERE bm.band_id = :bandId
+    AND NOT EXISTS (
+        SELECT 1 FROM performance_members pm
+        WHERE pm.user_id = bm.user_id
+        AND pm.band_id = bm.band_id
+        AND pm.performance_id = :performanceId
+    )
+    """, nativeQuery = true)
+    int insertMissingBandMembers(@Param("performanceId") Long performanceId, @Param("bandId") Long bandId);
+
+    //Deletes all PerformanceMember entities of a band for a specific performance
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PerformanceMember pm WHERE pm.performance.id = :performanceId AND pm.band.id = :bandId")
+    int deleteByPerformanceIdAndBandId(@Param("performanceId") Long performanceId, @Param("bandId") Long bandId);
+
     //Deletes all PerformanceMember entities associated with a specific performance
     @Modifying
     @Transactional
@@ -1,16 +1,39 @@
 package com.rv.band_manager.Repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.PerformanceSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.Performance;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PerformanceRepository extends JpaRepository<Performance, Long> {
+    //Retrieves all Performance entities with their bands and music sets
+    @Override
+    @EntityGraph(value = "Performance.bandsAndMusicSets", type = EntityGraph.EntityGraphType.LOAD)
+    List<Performance> findAll();
+
+    //Retrieves a Performance entity with its bands and music sets
+    @Override
+    @EntityGraph(value = "Performance.bandsAndMusicSets", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Performance> findById(Long id);
+
     //Retrieves a list of distinct Performance entities associated with a band
     @Query("SELECT DISTINCT p FROM Performance p JOIN p.bands b WHERE b.id = :bandId")
+    @EntityGraph(value = "Performance.bandsAndMusicSets", type = EntityGraph.EntityGraphType.LOAD)
     List<Performance> findByBand(@Param("bandId") Long bandId);
 
+    //Retrieves the columns the performance list renders, one row per music set on each playlist
+    @Query("""
+    SELECT new com.rv.band_manager.DTO.PerformanceSummary(p.id, p.date, p.time, p.location, m.title)
+    FROM Performance p
+    LEFT JOIN p.musicSets m
+    ORDER BY p.id, m.title
+    """)
+    List<PerformanceSummary> findSummaryRows();
+
 }
@@ -1,12 +1,19 @@
 package com.rv.band_manager.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import com.rv.band_manager.DTO.BandMemberCandidate;
+import com.rv.band_manager.DTO.UserSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.Role;
 import com.rv.band_manager.Model.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +24,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     //Retrieves a list of users who have a parent relationship
     @Query("SELECT u FROM User u WHERE u.parentRelationship IS NOT NULL")
+    @EntityGraph(value = "User.rolesAndParent", type = EntityGraph.EntityGraphType.LOAD)
     List<User> findUsersWithParents();
 
     //Retrieves a list of users who do not have a parent relationship
@@ -30,14 +38,57 @@ public interface UserRepository extends JpaRepository<User, Long> {
     //Finds a User by their full name
     Optional<User> findByFullName(String fullName);
 
-    //Retrieves a list of users who are associated with a specific band
-    @Query("SELECT u FROM User u JOIN u.bands b WHERE b.name = :bandName")
-    List<User> findByBandName(@Param("bandName") String bandName);
+    //Retrieves the members of a band by the band's name, with the parent's contact details for children
+    @Query("""
+    SELECT new com.rv.band_manager.DTO.UserSummary(
+        u.id,
+        u.fullName,
+        COALESCE(parent.email, u.email),
+        COALESCE(parent.phoneNumber, u.phoneNumber),
+        CASE WHEN parent.id IS NULL THEN FALSE ELSE TRUE END)
+    FROM User u
+    JOIN u.bands b
+    LEFT JOIN u.parentRelationship pr
+    LEFT JOIN pr.parent parent
+    WHERE b.name = :bandName
+    """)
+    List<UserSummary> findSummariesByBandName(@Param("bandName") String bandName);
+
+    //Finds the users without a parent relationship among a chunk of emails, flagging those already in the band
+    @Query("""
+    SELECT new com.rv.band_manager.DTO.BandMemberCandidate(
+        u.id,
+        u.email,
+        CASE WHEN b.id IS NULL THEN FALSE ELSE TRUE END)
+    FROM User u
+    LEFT JOIN u.bands b ON b.id = :bandId
+    WHERE u.email IN :emails
+    AND u.parentRelationship IS NULL
+    """)
+    List<BandMemberCandidate> findBandMemberCandidates(@Param("emails") Collection<String> emails,
+                                                       @Param("bandId") Long bandId);
+
+    //Adds a chunk of users to a band in a single statement, skipping any that joined in the meantime
+    @Modifying
+    //Only touches band_member, so the second-level cache regions of other tables stay valid
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "band_member"))
+    @Query(value = """
+    INSERT INTO band_member (user_id, band_id)
+    SELECT u.id, :bandId
+    FROM users u
+    WHERE u.id IN (:userIds)
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int addBandMembers(@Param("userIds") Collection<Long> userIds, @Param("bandId") Long bandId);
 
     //Retrieves a list of Bands associated with a specific User
     @Query("SELECT u.bands FROM User u WHERE u.id = :userId")
     List<Band> findBandsByUserId(@Param("userId") Long userId);
 
+    //Retrieves the IDs of the Bands associated with a specific User
+    @Query("SELECT b.id FROM User u JOIN u.bands b WHERE u.id = :userId")
+    List<Long> findBandIdsByUserId(@Param("userId") Long userId);
+
     //Finds all users associated with a specific role
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r = :role")
     List<User> findByRole(@Param("role") Role role);
@@ -0,0 +1,71 @@
+package com.rv.band_manager;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+import java.util.StringJoiner;
+
+/**
+ * Component building the srcset attributes of the static images from the resized variants written by the
+ * responsiveImages build task. Each variant URL is versioned like the other static assets, as the
+ * ResourceUrlEncodingFilter only rewrites URLs built by @{...} expressions.
+ */
+@Component("responsiveImages")
+public class ResponsiveImages {
+    private static final String VARIANTS_FILE = "image-variants.properties";
+
+    private final Properties variants = new Properties();
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    /**
+     * Constructor for ResponsiveImages.
+     *
+     * @param resourceUrlProvider The provider of the versioned static asset URLs.
+     */
+    public ResponsiveImages(ResourceUrlProvider resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+        ClassPathResource resource = new ClassPathResource(VARIANTS_FILE);
+        //Absent when the application runs from the IDE without the build task having run
+        if (resource.exists()) {
+            try (InputStream in = resource.getInputStream()) {
+                variants.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + VARIANTS_FILE, e);
+            }
+        }
+    }
+
+    /**
+     * Builds the srcset attribute of an image in static/images, listing each variant with its width.
+     *
+     * @param image The file name of the image, e.g. jazz_band_2.jpg.
+     * @return The srcset attribute, or null when the image has no variants so Thymeleaf leaves it out.
+     */
+    public String srcset(String image) {
+        String widths = variants.getProperty(image);
+        if (widths == null) {
+            return null;
+        }
+        int extension = image.lastIndexOf('.');
+        String[] imageWidths = widths.split(",");
+        String originalWidth = imageWidths[imageWidths.length - 1];
+        StringJoiner srcset = new StringJoiner(", ");
+        for (String width : imageWidths) {
+            String file = width.equals(originalWidth)
+                    ? image
+                    : image.substring(0, extension) + "-" + width + "w" + image.substring(extension);
+            srcset.add(versioned("/images/" + file) + " " + width + "w");
+        }
+        return srcset.toString();
+    }
+
+    private String versioned(String path) {
+        String url = resourceUrlProvider.getForLookupPath(path);
+        return url != null ? url : path;
+    }
+}
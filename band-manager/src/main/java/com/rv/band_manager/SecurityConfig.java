@@ -5,6 +5,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -41,7 +42,7 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests((requests) -> requests
-                        .requestMatchers("/register", "/login", "/images/**", "/css/**", "/js/**").permitAll()
+                        .requestMatchers("/register", "/login").permitAll()
                         .requestMatchers("/director/**").hasRole(Role.DIRECTOR.name())
                         .requestMatchers("/committee-member/**").hasRole(Role.COMMITTEE_MEMBER.name())
                         .anyRequest().authenticated()
@@ -63,6 +64,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Serves the static assets without the security filter chain, so they skip the session lookup
+     * and keep the long-lived caching headers the resource handlers set on them
+     *
+     * @return a customizer excluding the static asset paths from web security
+     */
+    @Bean
+    public WebSecurityCustomizer staticAssetsCustomizer() {
+        return (web) -> web.ignoring().requestMatchers(WebConfig.STATIC_ASSET_PATHS);
+    }
+
     /**
      * Password encode bean
      *
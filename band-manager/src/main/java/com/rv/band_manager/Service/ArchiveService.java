@@ -0,0 +1,9 @@
+package com.rv.band_manager.Service;
+
+import java.time.LocalDate;
+
+public interface ArchiveService {
+    int archiveInstrumentLoans(LocalDate cutoff, int batchSize);
+    int archiveMiscellaneousLoans(LocalDate cutoff, int batchSize);
+    int archiveMusicOrders(LocalDate cutoff, int batchSize);
+}
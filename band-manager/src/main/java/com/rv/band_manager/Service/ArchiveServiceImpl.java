@@ -0,0 +1,81 @@
+package com.rv.band_manager.Service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.Model.OrderStatus;
+import com.rv.band_manager.Repository.InstrumentLoanRepository;
+import com.rv.band_manager.Repository.MiscellaneousLoanRepository;
+import com.rv.band_manager.Repository.MusicOrderRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the ArchiveService interface.
+ * Moves closed rows out of the live loan and order tables into their archive tables, one batch per call,
+ * so queries on active loans and orders only scan the rows that can still change.
+ */
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private final InstrumentLoanRepository instrumentLoanRepository;
+    private final MiscellaneousLoanRepository miscellaneousLoanRepository;
+    private final MusicOrderRepository musicOrderRepository;
+
+    /**
+     * Constructs a new instance of ArchiveServiceImpl with the specified repositories.
+     *
+     * @param instrumentLoanRepository the repository used for instrument loan data access
+     * @param miscellaneousLoanRepository the repository used for miscellaneous loan data access
+     * @param musicOrderRepository the repository used for music order data access
+     */
+    public ArchiveServiceImpl(InstrumentLoanRepository instrumentLoanRepository,
+                              MiscellaneousLoanRepository miscellaneousLoanRepository,
+                              MusicOrderRepository musicOrderRepository) {
+        this.instrumentLoanRepository = instrumentLoanRepository;
+        this.miscellaneousLoanRepository = miscellaneousLoanRepository;
+        this.musicOrderRepository = musicOrderRepository;
+    }
+
+    /**
+     * Moves a batch of returned instrument loans dated before the cutoff into the archive.
+     *
+     * @param cutoff the loan date before which returned loans are archived
+     * @param batchSize the maximum number of loans to move
+     * @return the number of loans moved
+     */
+    public int archiveInstrumentLoans(LocalDate cutoff, int batchSize) {
+        return instrumentLoanRepository.archiveReturnedBefore(cutoff, batchSize);
+    }
+
+    /**
+     * Moves a batch of returned miscellaneous loans dated before the cutoff into the archive.
+     *
+     * @param cutoff the loan date before which returned loans are archived
+     * @param batchSize the maximum number of loans to move
+     * @return the number of loans moved
+     */
+    public int archiveMiscellaneousLoans(LocalDate cutoff, int batchSize) {
+        return miscellaneousLoanRepository.archiveReturnedBefore(cutoff, batchSize);
+    }
+
+    /**
+     * Moves a batch of fulfilled music orders dated before the cutoff, with their parts, into the archive.
+     * The orders stay locked from selection to deletion, so none can change status while it is being moved.
+     *
+     * @param cutoff the order date before which fulfilled orders are archived
+     * @param batchSize the maximum number of orders to move
+     * @return the number of orders moved
+     */
+    @Transactional
+    public int archiveMusicOrders(LocalDate cutoff, int batchSize) {
+        List<Long> ids = musicOrderRepository.lockIdsBefore(OrderStatus.FULFILLED.getCode(), cutoff,
+                batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        musicOrderRepository.copyToArchive(ids);
+        musicOrderRepository.moveMusicPartsToArchive(ids);
+        return musicOrderRepository.deleteArchived(ids);
+    }
+}
@@ -0,0 +1,111 @@
+package com.rv.band_manager.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.rv.band_manager.Model.User;
+import com.rv.band_manager.Repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of authenticated principals keyed by email.
+ * Controllers resolve the current user here instead of querying the User on every request,
+ * and UserServiceImpl evicts an entry whenever the user's roles or bands change, after the change commits.
+ */
+@Component
+public class AuthenticatedUserCache {
+    private final UserRepository userRepository;
+    private final Cache<String, CustomerUserDetails> principals = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .maximumSize(1_000)
+            .build();
+
+    /**
+     * Constructs a new instance of AuthenticatedUserCache with the specified repository.
+     *
+     * @param userRepository the repository used for user data access
+     */
+    public AuthenticatedUserCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Retrieves the principal for an email, loading it from the database on a cache miss.
+     *
+     * @param email the email address of the user
+     * @return an Optional containing the principal if the user exists, or empty if not
+     */
+    public Optional<CustomerUserDetails> get(String email) {
+        CustomerUserDetails cached = principals.getIfPresent(email);
+        return cached != null ? Optional.of(cached) : load(email);
+    }
+
+    /**
+     * Loads the principal for an email from the database and refreshes the cached entry.
+     *
+     * @param email the email address of the user
+     * @return an Optional containing the principal if the user exists, or empty if not
+     */
+    public Optional<CustomerUserDetails> load(String email) {
+        Optional<CustomerUserDetails> principal = userRepository.findByEmailAndNoParent(email)
+                .map(this::toPrincipal);
+        principal.ifPresent(details -> principals.put(email, details));
+        return principal;
+    }
+
+    /**
+     * Removes the cached principal for an email, so the next request reloads it.
+     * Inside a transaction the entry is removed once the transaction commits, since a request
+     * reloading it before then would cache the roles and bands the transaction is replacing.
+     *
+     * @param email the email address of the user
+     */
+    public void evict(String email) {
+        if (email != null) {
+            afterCommit(() -> principals.invalidate(email));
+        }
+    }
+
+    /**
+     * Removes the cached principals for several emails, once the transaction commits like evict.
+     *
+     * @param emails the email addresses of the users
+     */
+    public void evictAll(Collection<String> emails) {
+        List<String> evicted = List.copyOf(emails);
+        afterCommit(() -> principals.invalidateAll(evicted));
+    }
+
+    //Runs the eviction after the current transaction commits, or at once outside a transaction
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    //Maps the user's roles to authorities and reads the band IDs without initialising the bands collection
+    private CustomerUserDetails toPrincipal(User user) {
+        List<GrantedAuthority> authorities = user.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .collect(Collectors.toList());
+        return new CustomerUserDetails(user.getId(), user.getEmail(), user.getPassword(), authorities,
+                new HashSet<>(userRepository.findBandIdsByUserId(user.getId())));
+    }
+}
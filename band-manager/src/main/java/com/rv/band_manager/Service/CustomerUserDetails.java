@@ -0,0 +1,40 @@
+package com.rv.band_manager.Service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Authenticated principal carrying the user's ID and band IDs alongside the email and authorities,
+ * so controllers do not have to load the User entity to identify the current user.
+ */
+public class CustomerUserDetails extends User {
+    private final Long id;
+    private final Set<Long> bandIds;
+
+    /**
+     * Constructs a new CustomerUserDetails.
+     *
+     * @param id the ID of the user
+     * @param email the email address used as the username
+     * @param password the encoded password
+     * @param authorities the authorities mapped from the user's roles
+     * @param bandIds the IDs of the bands the user is a member of
+     */
+    public CustomerUserDetails(Long id, String email, String password,
+                               Collection<? extends GrantedAuthority> authorities, Set<Long> bandIds) {
+        super(email, password, authorities);
+        this.id = id;
+        this.bandIds = Set.copyOf(bandIds);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Set<Long> getBandIds() {
+        return bandIds;
+    }
+}
@@ -1,37 +1,30 @@
 package com.rv.band_manager.Service;
 
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import com.rv.band_manager.Model.User;
-import com.rv.band_manager.Repository.UserRepository;
-import java.util.*;
-import java.util.stream.Collectors;
-
-import javax.naming.NameNotFoundException;
 
 /**
  * Custom implementation of the UserDetailsService interface for authenticating users.
- * Loads user-specific data based on email and maps user roles to Spring Security authorities.
+ * Loads user-specific data based on email into a CustomerUserDetails principal.
  */
 @Service
 public class CustomerUserDetailsService implements UserDetailsService {
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /**
-     * Constructs a new instance of CustomerUserDetailsService with the specified repository.
+     * Constructs a new instance of CustomerUserDetailsService with the specified cache.
      *
-     * @param userRepository the repository used for user data access
+     * @param authenticatedUserCache the cache of authenticated principals
      */
-    public CustomerUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomerUserDetailsService(AuthenticatedUserCache authenticatedUserCache) {
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
     /**
      * Locates the user based on the email address.
+     * Always reads from the database so a login sees the current password, and refreshes the cached principal.
      *
      * @param email the email address of the user attempting to authenticate
      * @return a UserDetails object containing the user's information and authorities
@@ -39,21 +32,8 @@ public class CustomerUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        //Fetch the User from the database using the email
-        User user = userRepository.findByEmailAndNoParent(email)
+        return authenticatedUserCache.load(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
-
-        //Map the user's roles to a list of GrantedAuthority objects
-        List<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toList());
-
-        //Return a Spring Security User object that contains the user's email, password, and authorities
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                authorities
-        );
     }
 
 }
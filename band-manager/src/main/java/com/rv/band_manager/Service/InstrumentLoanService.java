@@ -1,9 +1,11 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.LoanSummary;
 import com.rv.band_manager.Model.InstrumentLoan;
 import com.rv.band_manager.Model.Instrument;
 import com.rv.band_manager.Model.User;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +13,7 @@ public interface InstrumentLoanService {
     List<InstrumentLoan> getAllInstrumentLoans();
     List<InstrumentLoan> getAllInstrumentLoansNotReturned();
     List<InstrumentLoan> getAllInstrumentLoansReturned();
+    List<LoanSummary> getInstrumentLoansBefore(Boolean returned, LocalDate beforeDate, Long beforeId, int limit);
     List<InstrumentLoan> getUserInstrumentLoansNotReturned(Long userId);
     List<InstrumentLoan> getUserInstrumentLoansReturned(Long userId);
     InstrumentLoan createInstrumentLoan(User user, Instrument instrument);
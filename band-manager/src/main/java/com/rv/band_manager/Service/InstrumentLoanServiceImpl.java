@@ -1,47 +1,67 @@
 package com.rv.band_manager.Service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.DTO.LoanSummary;
+import com.rv.band_manager.Event.LoanStatusChanged;
+import com.rv.band_manager.Event.LoanStatusChanged.LoanType;
+import com.rv.band_manager.Model.ArchivedInstrumentLoan;
 import com.rv.band_manager.Model.InstrumentLoan;
 import com.rv.band_manager.Model.Instrument;
 import com.rv.band_manager.Model.User;
+import com.rv.band_manager.Repository.ArchivedInstrumentLoanRepository;
 import com.rv.band_manager.Repository.InstrumentRepository;
 import com.rv.band_manager.Repository.InstrumentLoanRepository;
 import com.rv.band_manager.Repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
 /**
  * Implementation of the InstrumentLoanService interface.
  * Provides logic for managing musical instrument loans, including CRUD operations.
+ * History queries also read the archive, which holds returned loans moved out of the live table.
  */
 @Service
+@Transactional(readOnly = true)
 public class InstrumentLoanServiceImpl implements InstrumentLoanService {
 
     LocalDate localDate = LocalDate.now();
     private final InstrumentLoanRepository instrumentLoanRepository;
     private final InstrumentRepository instrumentRepository;
     private final UserRepository userRepository;
+    private final ArchivedInstrumentLoanRepository archivedInstrumentLoanRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new instance of InstrumentLoanServiceImpl with the specified repository.
      *
      * @param instrumentLoanRepository the repository used for instrument data access
+     * @param archivedInstrumentLoanRepository the read-only repository used for archived instrument loan data access
+     * @param eventPublisher the publisher of loans being made and returned
      */
     public InstrumentLoanServiceImpl(InstrumentLoanRepository instrumentLoanRepository, InstrumentRepository instrumentRepository,
-        UserRepository userRepository) {
+        UserRepository userRepository, ArchivedInstrumentLoanRepository archivedInstrumentLoanRepository,
+        ApplicationEventPublisher eventPublisher) {
         this.instrumentLoanRepository = instrumentLoanRepository;
         this.instrumentRepository = instrumentRepository;
         this.userRepository = userRepository;
+        this.archivedInstrumentLoanRepository = archivedInstrumentLoanRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Retrieves all instrument loans from the repository.
+     * Retrieves all instrument loans from the repository, including archived ones.
      *
      * @return a list of all instrument loans
      */
     public List<InstrumentLoan> getAllInstrumentLoans() {
-        return instrumentLoanRepository.findAll();
+        return withArchived(instrumentLoanRepository.findAll(), archivedInstrumentLoanRepository.findAll());
     }
 
     /**
@@ -50,24 +70,27 @@ public class InstrumentLoanServiceImpl implements InstrumentLoanService {
      * @param userId the unique ID of the user
      * @param instrumentId the unique ID of the instrument
      * @return the saved instrument loan
+     * @throws DataIntegrityViolationException if the instrument already has a loan that has not been returned
      */
+    @Transactional
     public InstrumentLoan createInstrumentLoan(User user, Instrument instrument) {
         InstrumentLoan instrumentLoan = new InstrumentLoan();
         instrumentLoan.setUser(user);
         instrumentLoan.setInstrument(instrument);
         instrumentLoan.setDate(localDate);
         instrumentLoan.setReturned(false);
-        return instrumentLoanRepository.save(instrumentLoan);
+        return publishStatusChanged(instrumentLoanRepository.save(instrumentLoan));
     }
 
     /**
-     * Retrieves an instrument loan by its unique identifier.
+     * Retrieves an instrument loan by its unique identifier, looking in the archive if it is no longer live.
      *
      * @param id the unique ID of the instrument loan
      * @return an Optional containing the instrument loan if found, or empty if not
      */
     public Optional<InstrumentLoan> getInstrumentLoanById(Long id) {
-        return instrumentLoanRepository.findById(id);
+        return instrumentLoanRepository.findById(id)
+                .or(() -> archivedInstrumentLoanRepository.findById(id).map(this::fromArchive));
     }
 
     /**
@@ -78,19 +101,30 @@ public class InstrumentLoanServiceImpl implements InstrumentLoanService {
      * @return the returned instrument loan
      * @throws IllegalArgumentException if the instrument loan is not found
      */
+    @Transactional
     public InstrumentLoan returnInstrumentLoan(InstrumentLoan instrumentLoan) {
         instrumentLoan.setReturned(true);
-        return instrumentLoanRepository.save(instrumentLoan);
+        return publishStatusChanged(instrumentLoanRepository.save(instrumentLoan));
+    }
+
+    // Tells the borrower's open loans pages about the loan once the transaction commits
+    private InstrumentLoan publishStatusChanged(InstrumentLoan instrumentLoan) {
+        Instrument instrument = instrumentLoan.getInstrument();
+        eventPublisher.publishEvent(new LoanStatusChanged(LoanType.INSTRUMENT, instrumentLoan.getUser().getId(),
+                new LoanSummary(instrumentLoan.getId(), instrument.getName(), instrument.getMake(), 1,
+                        instrumentLoan.getDate(), instrumentLoan.getReturned())));
+        return instrumentLoan;
     }
 
     /**
      * Retrieves all Instrument Loans for a specific user.
      *
      * @param userId the unique ID of the user
-     * @return a list of instrument loans associated with the user
+     * @return a list of instrument loans associated with the user, including archived ones
      */
     public List<InstrumentLoan> getInstrumentLoansByUserId(Long userId) {
-        return instrumentLoanRepository.findByUserId(userId);
+        return withArchived(instrumentLoanRepository.findByUserId(userId),
+                archivedInstrumentLoanRepository.findByUserId(userId));
     }
 
     /**
@@ -99,7 +133,29 @@ public class InstrumentLoanServiceImpl implements InstrumentLoanService {
      * @return a list of instrument loans with returned value false
      */
     public List<InstrumentLoan> getAllInstrumentLoansReturned() {
-        return instrumentLoanRepository.findByReturned(true);
+        return withArchived(instrumentLoanRepository.findByReturned(true), archivedInstrumentLoanRepository.findAll());
+    }
+
+    /**
+     * Retrieves a page of instrument loans older than the given cursor, newest first.
+     * Returned loans are paged across the live table and the archive with the same cursor.
+     *
+     * @param returned whether to page through returned or active loans
+     * @param beforeDate the date of the last loan of the previous page
+     * @param beforeId the ID of the last loan of the previous page
+     * @param limit the maximum number of loans to return
+     * @return a list of at most limit loan summaries
+     */
+    public List<LoanSummary> getInstrumentLoansBefore(Boolean returned, LocalDate beforeDate, Long beforeId, int limit) {
+        List<LoanSummary> loans = instrumentLoanRepository.findLoanSummariesBefore(returned, beforeDate, beforeId,
+                Limit.of(limit));
+        if (!returned) {
+            return loans;
+        }
+        List<LoanSummary> page = new ArrayList<>(loans);
+        page.addAll(archivedInstrumentLoanRepository.findLoanSummariesBefore(beforeDate, beforeId, Limit.of(limit)));
+        page.sort(Comparator.comparing(LoanSummary::getDate).thenComparing(LoanSummary::getId).reversed());
+        return page.subList(0, Math.min(limit, page.size()));
     }
 
     /**
@@ -117,7 +173,8 @@ public class InstrumentLoanServiceImpl implements InstrumentLoanService {
      * @return a list of instrument loans with returned with value true
      */
     public List<InstrumentLoan> getUserInstrumentLoansReturned(Long userId) {
-        return instrumentLoanRepository.findByUserIdAndReturned(userId, true);
+        return withArchived(instrumentLoanRepository.findByUserIdAndReturned(userId, true),
+                archivedInstrumentLoanRepository.findByUserId(userId));
     }
 
     /**
@@ -144,19 +201,35 @@ public class InstrumentLoanServiceImpl implements InstrumentLoanService {
      * @param id the ID of the instrument loan to delete
      * @throws IllegalArgumentException if the instrument is not found
      */
+    @Transactional
     public void deleteInstrumentLoan(Long id) {
         InstrumentLoan instrumentLoan = instrumentLoanRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Instrument loan not found"));
         instrumentLoanRepository.delete(instrumentLoan);
     }
 
+    /**
+     * Checks whether an instrument is currently on loan.
+     * Backed by the partial unique index on un-returned instrument loans, so this is a single index lookup.
+     *
+     * @param instrument the instrument to check
+     * @return true if the instrument has a loan that has not been returned
+     */
     public boolean instrumentInLoan(Instrument instrument){
-      List<InstrumentLoan> instrumentLoans = instrumentLoanRepository.findByReturned(false);
-      for(InstrumentLoan instrumentLoan : instrumentLoans){
-        if(instrumentLoan.getInstrument().equals(instrument)){
-          return true;
-        }
-      }
-      return false;
+      return instrumentLoanRepository.existsByInstrumentIdAndReturned(instrument.getId(), false);
+    }
+
+    // Appends archived loans to live ones, as detached loans with their original ID
+    private List<InstrumentLoan> withArchived(List<InstrumentLoan> live, List<ArchivedInstrumentLoan> archived) {
+        List<InstrumentLoan> loans = new ArrayList<>(live);
+        archived.forEach(archivedLoan -> loans.add(fromArchive(archivedLoan)));
+        return loans;
+    }
+
+    private InstrumentLoan fromArchive(ArchivedInstrumentLoan archivedLoan) {
+        InstrumentLoan instrumentLoan = new InstrumentLoan(archivedLoan.getUser(), archivedLoan.getInstrument(),
+                archivedLoan.getDate(), archivedLoan.getReturned());
+        instrumentLoan.setId(archivedLoan.getId());
+        return instrumentLoan;
     }
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 
 public interface InstrumentService {
     List<Instrument> getAllInstruments();
+    List<Instrument> getInstrumentsAfter(Long afterId, int limit);
     Instrument saveInstrument(Instrument instrument);
     Instrument updateInstrument(Long id, Instrument updatedInstrument);
     Optional<Instrument> getInstrumentById(Long id);
@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import com.rv.band_manager.Model.Instrument;
 import com.rv.band_manager.Repository.InstrumentRepository;
@@ -35,6 +36,17 @@ public class InstrumentServiceImpl implements InstrumentService {
         return instrumentRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of instruments following the given ID, in ID order.
+     *
+     * @param afterId the ID of the last instrument of the previous page, or 0 for the first page
+     * @param limit the maximum number of instruments to return
+     * @return a list of at most limit instruments
+     */
+    public List<Instrument> getInstrumentsAfter(Long afterId, int limit) {
+        return instrumentRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
     /**
      * Saves a new instrument to the repository.
      *
@@ -1,9 +1,12 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.LoanSummary;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
 import com.rv.band_manager.Model.MiscellaneousLoan;
 import com.rv.band_manager.Model.Miscellaneous;
 import com.rv.band_manager.Model.User;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +14,7 @@ public interface MiscellaneousLoanService {
     List<MiscellaneousLoan> getAllMiscellaneousLoans();
     List<MiscellaneousLoan> getAllMiscellaneousLoansNotReturned();
     List<MiscellaneousLoan> getAllMiscellaneousLoansReturned();
+    List<LoanSummary> getMiscellaneousLoansBefore(Boolean returned, LocalDate beforeDate, Long beforeId, int limit);
     List<MiscellaneousLoan> getUserMiscellaneousLoansNotReturned(Long userId);
     List<MiscellaneousLoan> getUserMiscellaneousLoansReturned(Long userId);
     MiscellaneousLoan createMiscellaneousLoan(User user, Miscellaneous miscellaneous, Integer quantity);
@@ -18,6 +22,6 @@ public interface MiscellaneousLoanService {
     Optional<MiscellaneousLoan> getMiscellaneousLoanById(Long id);
     void deleteMiscellaneousLoan(Long id);
     List<MiscellaneousLoan> getMiscellaneousLoansByUserId(Long userId);
-    List<Miscellaneous> getMiscellaneousNotLoaned();
+    List<MiscellaneousAvailability> getMiscellaneousNotLoaned();
     List<Miscellaneous> getMiscellaneousLoaned();
 }
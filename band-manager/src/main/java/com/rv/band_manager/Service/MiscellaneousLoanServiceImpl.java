@@ -1,74 +1,107 @@
 package com.rv.band_manager.Service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.DTO.LoanSummary;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
+import com.rv.band_manager.Event.LoanStatusChanged;
+import com.rv.band_manager.Event.LoanStatusChanged.LoanType;
+import com.rv.band_manager.Model.ArchivedMiscellaneousLoan;
 import com.rv.band_manager.Model.MiscellaneousLoan;
 import com.rv.band_manager.Model.Miscellaneous;
 import com.rv.band_manager.Model.User;
+import com.rv.band_manager.Repository.ArchivedMiscellaneousLoanRepository;
 import com.rv.band_manager.Repository.MiscellaneousRepository;
 import com.rv.band_manager.Repository.MiscellaneousLoanRepository;
 import com.rv.band_manager.Repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
 /**
  * Implementation of the MiscellaneousLoanService interface.
  * Provides logic for managing musical Miscellaneous loans, including CRUD operations.
+ * History queries also read the archive, which holds returned loans moved out of the live table.
  */
 @Service
+@Transactional(readOnly = true)
 public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
 
     LocalDate localDate = LocalDate.now();
     private final MiscellaneousLoanRepository miscellaneousLoanRepository;
     private final MiscellaneousRepository miscellaneousRepository;
     private final UserRepository userRepository;
+    private final ArchivedMiscellaneousLoanRepository archivedMiscellaneousLoanRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new instance of MiscellaneousLoanServiceImpl with the specified repository.
      *
      * @param misceallneousLoanRepository the repository used for miscellaneous loan data access
+     * @param archivedMiscellaneousLoanRepository the read-only repository used for archived miscellaneous loan data access
+     * @param eventPublisher the publisher of loans being made and returned
      */
     public MiscellaneousLoanServiceImpl(MiscellaneousLoanRepository miscellaneousLoanRepository, MiscellaneousRepository miscellaneousRepository,
-        UserRepository userRepository) {
+        UserRepository userRepository, ArchivedMiscellaneousLoanRepository archivedMiscellaneousLoanRepository,
+        ApplicationEventPublisher eventPublisher) {
         this.miscellaneousLoanRepository = miscellaneousLoanRepository;
         this.miscellaneousRepository = miscellaneousRepository;
         this.userRepository = userRepository;
+        this.archivedMiscellaneousLoanRepository = archivedMiscellaneousLoanRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Retrieves all miscellaneous loans from the repository.
+     * Retrieves all miscellaneous loans from the repository, including archived ones.
      *
      * @return a list of all miscellaneous loans
      */
     public List<MiscellaneousLoan> getAllMiscellaneousLoans() {
-        return miscellaneousLoanRepository.findAll();
+        return withArchived(miscellaneousLoanRepository.findAll(), archivedMiscellaneousLoanRepository.findAll());
     }
 
     /**
      * Creates a new miscellaneous loan to the repository.
      *
+     * The quantity is reserved with a conditional update on the item's on-loan counter,
+     * so concurrent loans can never take more than the item's quantity.
+     *
      * @param userId the unique ID of the user
      * @param miscellaneousId the unique ID of the miscellaneous
      * @return the saved miscellaneous loan
+     * @throws IllegalArgumentException if the quantity is not positive
+     * @throws IllegalStateException if the quantity is higher than the available quantity
      */
+    @Transactional
     public MiscellaneousLoan createMiscellaneousLoan(User user, Miscellaneous miscellaneous, Integer quantity) {
+        if (quantity == null || quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        if (miscellaneousRepository.reserveQuantity(miscellaneous.getId(), quantity) == 0) {
+            throw new IllegalStateException("Quantity is higher than available quantity");
+        }
         MiscellaneousLoan miscellaneousLoan = new MiscellaneousLoan();
         miscellaneousLoan.setUser(user);
         miscellaneousLoan.setMiscellaneous(miscellaneous);
         miscellaneousLoan.setDate(localDate);
         miscellaneousLoan.setQuantity(quantity);
         miscellaneousLoan.setReturned(false);
-        return miscellaneousLoanRepository.save(miscellaneousLoan);
+        return publishStatusChanged(miscellaneousLoanRepository.save(miscellaneousLoan));
     }
 
     /**
-     * Retrieves an miscellaneous loan by its unique identifier.
+     * Retrieves an miscellaneous loan by its unique identifier, looking in the archive if it is no longer live.
      *
      * @param id the unique ID of the miscellaneous loan
      * @return an Optional containing the miscellaneous loan if found, or empty if not
      */
     public Optional<MiscellaneousLoan> getMiscellaneousLoanById(Long id) {
-        return miscellaneousLoanRepository.findById(id);
+        return miscellaneousLoanRepository.findById(id)
+                .or(() -> archivedMiscellaneousLoanRepository.findById(id).map(this::fromArchive));
     }
 
     /**
@@ -78,20 +111,38 @@ public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
      * @param returnedMiscellaneousLoan the new miscellaneous loan data to update with
      * @return the returned miscellaneous loan
      * @throws IllegalArgumentException if the miscellaneous loan is not found
+     * @throws IllegalStateException if the miscellaneous loan has already been returned
      */
+    @Transactional
     public MiscellaneousLoan returnMiscellaneousLoan(MiscellaneousLoan miscellaneousLoan) {
+        // Only the request that flips the loan to returned releases its quantity
+        if (miscellaneousLoanRepository.markReturned(miscellaneousLoan.getId()) == 0) {
+            throw new IllegalStateException("Miscellaneous loan already returned");
+        }
+        miscellaneousRepository.releaseQuantity(miscellaneousLoan.getMiscellaneous().getId(),
+                miscellaneousLoan.getQuantity());
         miscellaneousLoan.setReturned(true);
-        return miscellaneousLoanRepository.save(miscellaneousLoan);
+        return publishStatusChanged(miscellaneousLoan);
+    }
+
+    // Tells the borrower's open loans pages about the loan once the transaction commits
+    private MiscellaneousLoan publishStatusChanged(MiscellaneousLoan miscellaneousLoan) {
+        Miscellaneous miscellaneous = miscellaneousLoan.getMiscellaneous();
+        eventPublisher.publishEvent(new LoanStatusChanged(LoanType.MISCELLANEOUS, miscellaneousLoan.getUser().getId(),
+                new LoanSummary(miscellaneousLoan.getId(), miscellaneous.getName(), miscellaneous.getMake(),
+                        miscellaneousLoan.getQuantity(), miscellaneousLoan.getDate(), miscellaneousLoan.getReturned())));
+        return miscellaneousLoan;
     }
 
     /**
      * Retrieves all Miscellaneous Loans for a specific user.
      *
      * @param userId the unique ID of the user
-     * @return a list of miscellaneous loans associated with the user
+     * @return a list of miscellaneous loans associated with the user, including archived ones
      */
     public List<MiscellaneousLoan> getMiscellaneousLoansByUserId(Long userId) {
-        return miscellaneousLoanRepository.findByUserId(userId);
+        return withArchived(miscellaneousLoanRepository.findByUserId(userId),
+                archivedMiscellaneousLoanRepository.findByUserId(userId));
     }
 
     /**
@@ -100,7 +151,31 @@ public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
      * @return a list of miscellaneous loans with returned value false
      */
     public List<MiscellaneousLoan> getAllMiscellaneousLoansReturned() {
-        return miscellaneousLoanRepository.findByReturned(true);
+        return withArchived(miscellaneousLoanRepository.findByReturned(true),
+                archivedMiscellaneousLoanRepository.findAll());
+    }
+
+    /**
+     * Retrieves a page of miscellaneous loans older than the given cursor, newest first.
+     * Returned loans are paged across the live table and the archive with the same cursor.
+     *
+     * @param returned whether to page through returned or active loans
+     * @param beforeDate the date of the last loan of the previous page
+     * @param beforeId the ID of the last loan of the previous page
+     * @param limit the maximum number of loans to return
+     * @return a list of at most limit loan summaries
+     */
+    public List<LoanSummary> getMiscellaneousLoansBefore(Boolean returned, LocalDate beforeDate, Long beforeId,
+                                                         int limit) {
+        List<LoanSummary> loans = miscellaneousLoanRepository.findLoanSummariesBefore(returned, beforeDate, beforeId,
+                Limit.of(limit));
+        if (!returned) {
+            return loans;
+        }
+        List<LoanSummary> page = new ArrayList<>(loans);
+        page.addAll(archivedMiscellaneousLoanRepository.findLoanSummariesBefore(beforeDate, beforeId, Limit.of(limit)));
+        page.sort(Comparator.comparing(LoanSummary::getDate).thenComparing(LoanSummary::getId).reversed());
+        return page.subList(0, Math.min(limit, page.size()));
     }
 
     /**
@@ -118,7 +193,8 @@ public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
      * @return a list of miscellaneous loans with returned with value true
      */
     public List<MiscellaneousLoan> getUserMiscellaneousLoansReturned(Long userId) {
-        return miscellaneousLoanRepository.findByUserIdAndReturned(userId, true);
+        return withArchived(miscellaneousLoanRepository.findByUserIdAndReturned(userId, true),
+                archivedMiscellaneousLoanRepository.findByUserId(userId));
     }
 
     /**
@@ -131,7 +207,12 @@ public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
         return miscellaneousLoanRepository.findByUserIdAndReturned(userId, false);
     }
 
-    public List<Miscellaneous> getMiscellaneousNotLoaned(){
+    /**
+     * Retrieves the stock of all miscellaneous items that still have some quantity available to loan.
+     *
+     * @return a list of miscellaneous availability rows with available quantity above zero
+     */
+    public List<MiscellaneousAvailability> getMiscellaneousNotLoaned(){
       return miscellaneousRepository.findMiscellaneousNotLoaned();
     }
 
@@ -145,10 +226,31 @@ public class MiscellaneousLoanServiceImpl implements MiscellaneousLoanService {
      * @param id the ID of the miscellaneous loan to delete
      * @throws IllegalArgumentException if the miscellaneous is not found
      */
+    @Transactional
     public void deleteMiscellaneousLoan(Long id) {
         MiscellaneousLoan miscellaneousLoan = miscellaneousLoanRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Miscellaneous loan not found"));
+        // A loan that is still out holds quantity on the item's counter
+        if (miscellaneousLoanRepository.markReturned(id) == 1) {
+            miscellaneousRepository.releaseQuantity(miscellaneousLoan.getMiscellaneous().getId(),
+                    miscellaneousLoan.getQuantity());
+        }
         miscellaneousLoanRepository.delete(miscellaneousLoan);
     }
 
+    // Appends archived loans to live ones, as detached loans with their original ID
+    private List<MiscellaneousLoan> withArchived(List<MiscellaneousLoan> live, List<ArchivedMiscellaneousLoan> archived) {
+        List<MiscellaneousLoan> loans = new ArrayList<>(live);
+        archived.forEach(archivedLoan -> loans.add(fromArchive(archivedLoan)));
+        return loans;
+    }
+
+    private MiscellaneousLoan fromArchive(ArchivedMiscellaneousLoan archivedLoan) {
+        MiscellaneousLoan miscellaneousLoan = new MiscellaneousLoan(archivedLoan.getUser(),
+                archivedLoan.getMiscellaneous(), archivedLoan.getDate(), archivedLoan.getQuantity(),
+                archivedLoan.getReturned());
+        miscellaneousLoan.setId(archivedLoan.getId());
+        return miscellaneousLoan;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
 import com.rv.band_manager.Model.Miscellaneous;
 
 import java.util.List;
@@ -7,10 +8,12 @@ import java.util.Optional;
 
 public interface MiscellaneousService {
     List<Miscellaneous> getAllMiscellaneous();
+    List<Miscellaneous> getMiscellaneousAfter(Long afterId, int limit);
     Miscellaneous saveMiscellaneous(Miscellaneous item);
     Miscellaneous updateMiscellaneous(Long id, Miscellaneous updatedItem);
     Optional<Miscellaneous> getMiscellaneousById(Long id);
     Optional<Miscellaneous> getMiscellaneousByNameAndMake(String name, String make);
-    void setAvailableMiscellaneousQuantity();
+    List<MiscellaneousAvailability> getMiscellaneousAvailability();
+    Optional<MiscellaneousAvailability> getMiscellaneousAvailabilityById(Long id);
     void deleteMiscellaneous(Long id);
 }
@@ -1,9 +1,9 @@
 package com.rv.band_manager.Service;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import com.rv.band_manager.DTO.MiscellaneousAvailability;
 import com.rv.band_manager.Model.Miscellaneous;
-import com.rv.band_manager.Model.MiscellaneousLoan;
-import com.rv.band_manager.Model.User;
 import com.rv.band_manager.Repository.MiscellaneousRepository;
 import com.rv.band_manager.Repository.MiscellaneousLoanRepository;
 import com.rv.band_manager.Repository.UserRepository;
@@ -40,13 +40,34 @@ public class MiscellaneousServiceImpl implements MiscellaneousService {
         return miscellaneousRepository.findAll();
     }
 
-    public void setAvailableMiscellaneousQuantity(){
-      List<Miscellaneous> items = miscellaneousRepository.findAll();
-      for (Miscellaneous item : items) {
-          Integer loaned = miscellaneousLoanRepository.sumLoanedQuantityByMiscellaneousId(item.getId());
-          if (loaned == null) loaned = 0;
-          item.setAvailableQuantity(item.getQuantity() - loaned);
-      }
+    /**
+     * Retrieves a page of miscellaneous items following the given ID, in ID order.
+     *
+     * @param afterId the ID of the last item of the previous page, or 0 for the first page
+     * @param limit the maximum number of items to return
+     * @return a list of at most limit miscellaneous items
+     */
+    public List<Miscellaneous> getMiscellaneousAfter(Long afterId, int limit) {
+        return miscellaneousRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Retrieves the stock of every miscellaneous item in a single grouped query.
+     *
+     * @return a list of availability rows holding the quantity, loaned quantity and available quantity of each item
+     */
+    public List<MiscellaneousAvailability> getMiscellaneousAvailability(){
+      return miscellaneousRepository.findMiscellaneousAvailability();
+    }
+
+    /**
+     * Retrieves the stock of a single miscellaneous item.
+     *
+     * @param id the unique ID of the miscellaneous item
+     * @return an Optional containing the availability of the item if found, or empty if not
+     */
+    public Optional<MiscellaneousAvailability> getMiscellaneousAvailabilityById(Long id){
+      return miscellaneousRepository.findMiscellaneousAvailabilityById(id);
     }
 
     /**
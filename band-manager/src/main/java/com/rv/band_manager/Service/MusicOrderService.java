@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.MusicOrderSummary;
 import com.rv.band_manager.Model.MusicOrder;
 import com.rv.band_manager.Model.MusicPart;
 
@@ -15,6 +16,8 @@ public interface MusicOrderService{
     List<MusicOrder> getChildMusicOrderFulfilled(Long childId);
     List<MusicOrder> getChildMusicOrderReady(Long childId);
     List<MusicOrder> getChildMusicOrderNotReady(Long childId);
+    MusicOrderSummary getUserMusicOrderSummary(Long userId);
+    MusicOrderSummary getChildMusicOrderSummary(Long childId);
     void deleteMusicOrder(Long id);
     List<MusicOrder> getOrdersByUserId(Long userId);
     MusicOrder createMusicOrder(Long userId);
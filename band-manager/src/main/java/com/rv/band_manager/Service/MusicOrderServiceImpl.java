@@ -1,6 +1,10 @@
 package com.rv.band_manager.Service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.DTO.MusicOrderSummary;
+import com.rv.band_manager.Event.MusicOrderStatusChanged;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Repository.*;
 
@@ -12,13 +16,17 @@ import java.util.stream.Collectors;
  * Implementation of the MusicOrderService interface.
  * Provides logic for managing music orders, including CRUD operations,
  * status management, and association with users and music parts.
+ * History queries also read the archive, which holds fulfilled orders moved out of the live table.
  */
 @Service
+@Transactional(readOnly = true)
 public class MusicOrderServiceImpl implements MusicOrderService{
     LocalDate localDate = LocalDate.now();
     private final MusicOrderRepository musicOrderRepository;
     private final MusicPartRepository musicPartRepository;
     private final UserRepository userRepository;
+    private final ArchivedMusicOrderRepository archivedMusicOrderRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new instance of MusicOrderServiceImpl with the specified repositories.
@@ -26,31 +34,38 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @param musicOrderRepository the repository used for music order data access
      * @param musicPartRepository the repository used for music part data access
      * @param userRepository the repository used for user data access
+     * @param archivedMusicOrderRepository the read-only repository used for archived music order data access
+     * @param eventPublisher the publisher of music order status changes
      */
     public MusicOrderServiceImpl(MusicOrderRepository musicOrderRepository,
-                                 MusicPartRepository musicPartRepository, UserRepository userRepository) {
+                                 MusicPartRepository musicPartRepository, UserRepository userRepository,
+                                 ArchivedMusicOrderRepository archivedMusicOrderRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.musicOrderRepository = musicOrderRepository;
         this.musicPartRepository = musicPartRepository;
         this.userRepository = userRepository;
+        this.archivedMusicOrderRepository = archivedMusicOrderRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Retrieves all MusicOrder records from the database.
+     * Retrieves all MusicOrder records from the database, including archived ones.
      *
      * @return a list of all music orders
      */
     public List<MusicOrder> getAllMusicOrders() {
-        return musicOrderRepository.findAll();
+        return withArchived(musicOrderRepository.findAll(), archivedMusicOrderRepository.findAll());
     }
 
     /**
-     * Retrieves a specific MusicOrder by its ID.
+     * Retrieves a specific MusicOrder by its ID, looking in the archive if it is no longer live.
      *
      * @param id the unique ID of the music order
      * @return an Optional containing the music order if found, or empty if not
      */
     public Optional<MusicOrder> getMusicOrderById(Long id) {
-        return musicOrderRepository.findById(id);
+        return musicOrderRepository.findById(id)
+                .or(() -> archivedMusicOrderRepository.findById(id).map(this::fromArchive));
     }
 
     /**
@@ -60,12 +75,13 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return the created music order
      * @throws RuntimeException if the user is not found
      */
+    @Transactional
     public MusicOrder createMusicOrder(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         MusicOrder musicOrder = new MusicOrder();
         musicOrder.setOwner(user);
-        musicOrder.setStatus("NOT_READY");
+        musicOrder.setStatus(OrderStatus.NOT_READY);
         musicOrder.setDate(localDate);
         return musicOrderRepository.save(musicOrder);
     }
@@ -78,6 +94,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return the created music order
      * @throws RuntimeException if the user or child is not found
      */
+    @Transactional
     public MusicOrder createChildMusicOrder(Long userId, Long childId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -86,7 +103,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
         MusicOrder musicOrder = new MusicOrder();
         musicOrder.setOwner(user);
         musicOrder.setChild(child);
-        musicOrder.setStatus("NOT_READY");
+        musicOrder.setStatus(OrderStatus.NOT_READY);
         musicOrder.setDate(localDate);
         return musicOrderRepository.save(musicOrder);
     }
@@ -97,6 +114,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @param id the unique ID of the music order to delete
      * @throws RuntimeException if the music order is not found
      */
+    @Transactional
     public void deleteMusicOrder(Long id) {
         Optional<MusicOrder> musicOrderOptional = musicOrderRepository.findById(id);
         if (musicOrderOptional.isPresent()) {
@@ -110,10 +128,10 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * Retrieves all MusicOrders for a specific user.
      *
      * @param userId the unique ID of the user
-     * @return a list of music orders associated with the user
+     * @return a list of music orders associated with the user, including archived ones
      */
     public List<MusicOrder> getOrdersByUserId(Long userId) {
-        return musicOrderRepository.findByOwnerId(userId);
+        return withArchived(musicOrderRepository.findByOwnerId(userId), archivedMusicOrderRepository.findByOwnerId(userId));
     }
 
     /**
@@ -123,7 +141,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "NOT_READY"
      */
     public List<MusicOrder> getUserMusicOrderNotReady(Long userId) {
-        return musicOrderRepository.findByStatusAndOwnerId("NOT_READY", userId);
+        return musicOrderRepository.findByStatusAndOwnerId(OrderStatus.NOT_READY, userId);
     }
 
     /**
@@ -133,7 +151,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "READY"
      */
     public List<MusicOrder> getUserMusicOrderReady(Long userId) {
-        return musicOrderRepository.findByStatusAndOwnerId("READY", userId);
+        return musicOrderRepository.findByStatusAndOwnerId(OrderStatus.READY, userId);
     }
 
     /**
@@ -143,7 +161,8 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "FULFILLED"
      */
     public List<MusicOrder> getUserMusicOrderFulfilled(Long userId) {
-        return musicOrderRepository.findByStatusAndOwnerId("FULFILLED", userId);
+        return withArchived(musicOrderRepository.findByStatusAndOwnerId(OrderStatus.FULFILLED, userId),
+                archivedMusicOrderRepository.findByOwnerId(userId));
     }
 
     /**
@@ -153,7 +172,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "NOT_READY"
      */
     public List<MusicOrder> getChildMusicOrderNotReady(Long childId) {
-        return musicOrderRepository.findByStatusAndChildId("NOT_READY", childId);
+        return musicOrderRepository.findByStatusAndChildId(OrderStatus.NOT_READY, childId);
     }
 
     /**
@@ -163,7 +182,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "READY"
      */
     public List<MusicOrder> getChildMusicOrderReady(Long childId) {
-        return musicOrderRepository.findByStatusAndChildId("READY", childId);
+        return musicOrderRepository.findByStatusAndChildId(OrderStatus.READY, childId);
     }
 
     /**
@@ -173,7 +192,33 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "FULFILLED"
      */
     public List<MusicOrder> getChildMusicOrderFulfilled(Long childId) {
-        return musicOrderRepository.findByStatusAndChildId("FULFILLED", childId);
+        return withArchived(musicOrderRepository.findByStatusAndChildId(OrderStatus.FULFILLED, childId),
+                archivedMusicOrderRepository.findByChildId(childId));
+    }
+
+    /**
+     * Retrieves the orders of a user, including those made for their children, split by status,
+     * with the parts held through fulfilled orders. Runs one query on the live orders and one on the archive,
+     * in one persistence context, so a part in both live and archived orders is listed once.
+     *
+     * @param userId the unique ID of the user
+     * @return the user's orders grouped by status and the parts they hold
+     */
+    public MusicOrderSummary getUserMusicOrderSummary(Long userId) {
+        return summarize(musicOrderRepository.findWithMusicPartsByOwnerId(userId),
+                archivedMusicOrderRepository.findWithMusicPartsByOwnerId(userId));
+    }
+
+    /**
+     * Retrieves the orders made for a child split by status, with the parts held through fulfilled orders.
+     * Runs one query on the live orders and one on the archive, in one persistence context like the user's summary.
+     *
+     * @param childId the unique ID of the child
+     * @return the child's orders grouped by status and the parts they hold
+     */
+    public MusicOrderSummary getChildMusicOrderSummary(Long childId) {
+        return summarize(musicOrderRepository.findWithMusicPartsByChildId(childId),
+                archivedMusicOrderRepository.findWithMusicPartsByChildId(childId));
     }
 
     /**
@@ -184,6 +229,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return the updated music order with the added music part
      * @throws RuntimeException if the music order is not found
      */
+    @Transactional
     public MusicOrder addMusicPartToMusicOrder(Long MusicOrderId, MusicPart musicPart) {
         Optional<MusicOrder> musicOrderOpt = musicOrderRepository.findById(MusicOrderId);
 
@@ -205,8 +251,10 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @throws IllegalArgumentException if the music order is not found
      */
     public List<MusicPart> getPartsByMusicOrderId(Long musicOrderId) {
-        return musicOrderRepository.findById(musicOrderId)
+        return musicOrderRepository.findWithMusicPartsById(musicOrderId)
                 .map(musicOrder -> new ArrayList<>(musicOrder.getMusicParts())) // Convert Set to List
+                .or(() -> archivedMusicOrderRepository.findWithMusicPartsById(musicOrderId)
+                        .map(musicOrder -> new ArrayList<>(musicOrder.getMusicParts())))
                 .orElseThrow(() -> new IllegalArgumentException("MusicOrder not found for ID: " + musicOrderId));
     }
 
@@ -216,7 +264,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "READY"
      */
     public List<MusicOrder> getAllMusicOrderReady() {
-        return musicOrderRepository.findByStatus("READY");
+        return musicOrderRepository.findByStatus(OrderStatus.READY);
     }
 
     /**
@@ -225,7 +273,7 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @return a list of music orders with the status "FULFILLED"
      */
     public List<MusicOrder> getAllMusicOrderFulfilled() {
-        return musicOrderRepository.findByStatus("FULFILLED");
+        return withArchived(musicOrderRepository.findByStatus(OrderStatus.FULFILLED), archivedMusicOrderRepository.findAll());
     }
 
     /**
@@ -234,9 +282,10 @@ public class MusicOrderServiceImpl implements MusicOrderService{
     * @param musicOrder the music order to update
     * @return the updated music order with the status "READY"
     */
+    @Transactional
     public MusicOrder readyMusicOrder(MusicOrder musicOrder) {
-        musicOrder.setStatus("READY");
-        return musicOrderRepository.save(musicOrder);
+        musicOrder.setStatus(OrderStatus.READY);
+        return publishStatusChanged(musicOrderRepository.save(musicOrder));
     }
 
     /**
@@ -245,9 +294,49 @@ public class MusicOrderServiceImpl implements MusicOrderService{
      * @param musicOrder the music order to update
      * @return the updated music order with the status "FULFILLED"
      */
+    @Transactional
     public MusicOrder fulfillMusicOrder(MusicOrder musicOrder) {
-        musicOrder.setStatus("FULFILLED");
-        return musicOrderRepository.save(musicOrder);
+        musicOrder.setStatus(OrderStatus.FULFILLED);
+        return publishStatusChanged(musicOrderRepository.save(musicOrder));
+    }
+
+    // Tells the owner's open music pages about the new status once the transaction commits
+    private MusicOrder publishStatusChanged(MusicOrder musicOrder) {
+        eventPublisher.publishEvent(new MusicOrderStatusChanged(musicOrder));
+        return musicOrder;
+    }
+
+    // Partitions fetched orders by status and collects the parts of the fulfilled ones
+    private MusicOrderSummary summarize(List<MusicOrder> live, List<ArchivedMusicOrder> archived) {
+        Map<OrderStatus, List<MusicOrder>> byStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new ArrayList<>());
+        }
+        Set<MusicPart> partsHeld = new LinkedHashSet<>();
+        for (MusicOrder musicOrder : live) {
+            byStatus.get(musicOrder.getStatus()).add(musicOrder);
+            if (musicOrder.getStatus() == OrderStatus.FULFILLED) {
+                partsHeld.addAll(musicOrder.getMusicParts());
+            }
+        }
+        for (ArchivedMusicOrder archivedOrder : archived) {
+            byStatus.get(OrderStatus.FULFILLED).add(fromArchive(archivedOrder));
+            partsHeld.addAll(archivedOrder.getMusicParts());
+        }
+        return new MusicOrderSummary(byStatus.get(OrderStatus.NOT_READY), byStatus.get(OrderStatus.READY),
+                byStatus.get(OrderStatus.FULFILLED), new ArrayList<>(partsHeld));
+    }
+
+    // Appends archived orders to live ones, as detached orders with their original ID and without their parts
+    private List<MusicOrder> withArchived(List<MusicOrder> live, List<ArchivedMusicOrder> archived) {
+        List<MusicOrder> musicOrders = new ArrayList<>(live);
+        archived.forEach(archivedOrder -> musicOrders.add(fromArchive(archivedOrder)));
+        return musicOrders;
+    }
+
+    private MusicOrder fromArchive(ArchivedMusicOrder archivedOrder) {
+        return new MusicOrder(archivedOrder.getId(), archivedOrder.getOwner(), archivedOrder.getChild(),
+                archivedOrder.getDate(), archivedOrder.getStatus(), new HashSet<>());
     }
 
 
@@ -1,40 +1,39 @@
 package com.rv.band_manager.Service;
 
 import org.springframework.stereotype.*;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.rv.band_manager.Model.Band;
+import com.rv.band_manager.ReferenceDataCache;
 import com.rv.band_manager.Model.MusicPart;
 import com.rv.band_manager.Model.MusicSet;
-import com.rv.band_manager.Model.User;
 import com.rv.band_manager.Repository.MusicPartRepository;
 import com.rv.band_manager.Repository.MusicSetRepository;
-import com.rv.band_manager.Repository.UserRepository;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing MusicParts in the application.
  * Provides functionality to retrieve, create, update, and associate MusicParts with MusicSets and users.
  */
 @Service
+@Transactional(readOnly = true)
 public class MusicPartServiceImpl implements MusicPartService {
     private final MusicPartRepository musicPartRepository;
     private final MusicSetRepository musicSetRepository;
-    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor a new instance  of MusicPartServiceImpl with the specified repositories.
      *
      * @param musicPartRepository the repository for managing MusicPart data access
      * @param musicSetRepository the repository for managing MusicSet data access
-     * @param userRepository the repository for managing User data access
+     * @param referenceDataCache the component used to evict cached music set parts
      */
     public MusicPartServiceImpl(MusicPartRepository musicPartRepository, MusicSetRepository musicSetRepository,
-                                UserRepository userRepository) {
+                                ReferenceDataCache referenceDataCache) {
         this.musicPartRepository = musicPartRepository;
         this.musicSetRepository = musicSetRepository;
-        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -64,11 +63,14 @@ public class MusicPartServiceImpl implements MusicPartService {
      * @return the saved MusicPart
      * @throws RuntimeException if the MusicSet with the given ID is not found
      */
+    @Transactional
     public MusicPart createMusicPart(Long musicSetId, MusicPart musicPart) {
         MusicSet musicSet = musicSetRepository.findById(musicSetId)
                 .orElseThrow(() -> new RuntimeException("MusicSet not found with id: " + musicSetId));
         musicPart.setMusicSet(musicSet);
-        return musicPartRepository.save(musicPart);
+        MusicPart savedMusicPart = musicPartRepository.save(musicPart);
+        referenceDataCache.evictMusicSetParts(musicSetId);
+        return savedMusicPart;
     }
 
     /**
@@ -77,8 +79,13 @@ public class MusicPartServiceImpl implements MusicPartService {
      * @param musicPart the MusicPart to save
      * @return the saved MusicPart
      */
+    @Transactional
     public MusicPart saveMusicPart(MusicPart musicPart) {
-        return musicPartRepository.save(musicPart);
+        MusicPart savedMusicPart = musicPartRepository.save(musicPart);
+        if (savedMusicPart.getMusicSet() != null) {
+            referenceDataCache.evictMusicSetParts(savedMusicPart.getMusicSet().getId());
+        }
+        return savedMusicPart;
     }
 
     /**
@@ -89,6 +96,7 @@ public class MusicPartServiceImpl implements MusicPartService {
      * @return the updated MusicPart
      * @throws RuntimeException if the MusicPart with the given ID is not found
      */
+    @Transactional
     public MusicPart updateMusicPart(Long id, MusicPart updatedMusicPart) {
         Optional<MusicPart> musicPartOptional = musicPartRepository.findById(id);
         if (musicPartOptional.isPresent()) {
@@ -113,29 +121,14 @@ public class MusicPartServiceImpl implements MusicPartService {
     }
 
     /**
-     * Retrieves MusicParts needed by a user based on their associated bands and MusicSets.
+     * Retrieves MusicParts the user still needs: the parts of the MusicSets their bands practise,
+     * less the parts they already hold through a fulfilled order.
      *
      * @param userId the ID of the user
-     * @return a list of MusicParts the user needs
-     * @throws RuntimeException if the User with the given ID is not found
+     * @return a list of MusicParts the user still needs, with their MusicSet loaded
      */
     public List<MusicPart> getUserMusicPartNeeded(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Set<Band> bands = user.getBands();
-        if (bands.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        //Collect all MusicSets from the user's bands and then collect all MusicParts
-        Set<MusicSet> musicSets = bands.stream()
-                .flatMap(band -> band.getMusicSets().stream())
-                .collect(Collectors.toSet());
-
-        return musicSets.stream()
-                .flatMap(musicSet -> musicSet.getMusicParts().stream())
-                .collect(Collectors.toList());
+        return musicPartRepository.findNeededByUserId(userId);
     }
 
     /**
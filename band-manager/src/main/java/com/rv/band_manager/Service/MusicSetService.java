@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.MusicSetSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.MusicPart;
 import com.rv.band_manager.Model.MusicSet;
@@ -9,6 +10,7 @@ import java.util.Optional;
 
 public interface MusicSetService {
     List<MusicSet> getAllMusicSets();
+    List<MusicSetSummary> getMusicSetSummaries();
     Optional<MusicSet> getMusicSetById(Long id);
     MusicSet saveMusicSet(MusicSet musicSet);
     MusicSet updateMusicSet(Long id, MusicSet updatedMusicSet);
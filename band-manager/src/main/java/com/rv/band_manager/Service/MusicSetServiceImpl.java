@@ -1,7 +1,10 @@
 package com.rv.band_manager.Service;
 
 import org.springframework.stereotype.*;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.rv.band_manager.ReferenceDataCache;
+import com.rv.band_manager.DTO.MusicSetSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.MusicPart;
 import com.rv.band_manager.Model.MusicSet;
@@ -9,6 +12,7 @@ import com.rv.band_manager.Model.User;
 import com.rv.band_manager.Repository.BandRepository;
 import com.rv.band_manager.Repository.MusicSetRepository;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -20,17 +24,21 @@ import java.util.Set;
 public class MusicSetServiceImpl implements MusicSetService{
     private final MusicSetRepository musicSetRepository;
     private final BandRepository bandRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Constructor for MusicSetServiceImpl.
      *
      * @param musicSetRepository The repository used to interact with the MusicSet data.
      * @param bandRepository The repository used to interact with the Band data.
+     * @param referenceDataCache The component used to evict cached band music sets.
      */
     public MusicSetServiceImpl(MusicSetRepository musicSetRepository,
-                               BandRepository bandRepository) {
+                               BandRepository bandRepository,
+                               ReferenceDataCache referenceDataCache) {
         this.musicSetRepository = musicSetRepository;
         this.bandRepository = bandRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -42,6 +50,15 @@ public class MusicSetServiceImpl implements MusicSetService{
         return musicSetRepository.findAll();
     }
 
+    /**
+     * Retrieves a summary of every MusicSet, with the columns the catalogue renders.
+     *
+     * @return A list of all MusicSet summaries.
+     */
+    public List<MusicSetSummary> getMusicSetSummaries() {
+        return musicSetRepository.findSummaries();
+    }
+
     /**
      * Retrieves a MusicSet by its ID.
      *
@@ -102,6 +119,7 @@ public class MusicSetServiceImpl implements MusicSetService{
      * @return The updated MusicSet with the Band added.
      * @throws RuntimeException If the MusicSet or Band is not found, or if the MusicSet is not suitable for training.
      */
+    @Transactional
     public MusicSet addBandToMusicSet(Long MusicSetId, Long BandId) {
         Optional<MusicSet> musicSetOpt = musicSetRepository.findById(MusicSetId);
         Optional<Band> bandOpt = bandRepository.findById(BandId);
@@ -114,7 +132,9 @@ public class MusicSetServiceImpl implements MusicSetService{
             }
             else{
                 musicSet.getBands().add(band);
-                return musicSetRepository.save(musicSet);
+                MusicSet savedMusicSet = musicSetRepository.save(musicSet);
+                referenceDataCache.evictBandMusicSets(Set.of(band));
+                return savedMusicSet;
             }
         }
         else{
@@ -128,6 +148,7 @@ public class MusicSetServiceImpl implements MusicSetService{
      * @param musicSetId The ID of the MusicSet from which the Bands should be removed.
      * @throws RuntimeException If there is an error while updating the MusicSet.
      */
+    @Transactional
     public void deletePractice(Long musicSetId) {
         try {
             Optional<MusicSet> musicSetOpt = musicSetRepository.findById(musicSetId);
@@ -135,9 +156,11 @@ public class MusicSetServiceImpl implements MusicSetService{
                 MusicSet musicSet = musicSetOpt.get();
                 if (musicSet.getBands() != null) {
                     Set<Band> musicSetBands = musicSet.getBands();
+                    Set<Band> removedBands = new HashSet<>(musicSetBands);
                     musicSetBands.clear();
                     musicSet.setBands(musicSetBands);
                     musicSetRepository.save(musicSet);
+                    referenceDataCache.evictBandMusicSets(removedBands);
                 }
             }
         } catch (Exception e) {
@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.PerformanceDetail;
 import com.rv.band_manager.Model.PerformanceMember;
 
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Optional;
 public interface PerformanceMemberService {
     Optional<PerformanceMember> findByUserIdAndBandIdAndPerformanceId(Long userId, Long bandId, Long performanceId);
     List<PerformanceMember> findByPerformanceIdAndAvailability(Long performanceId, Boolean availability);
+    List<PerformanceDetail> getPerformanceDetailsByUserId(Long userId);
     PerformanceMember savePerformanceMember(PerformanceMember performanceMember);
     PerformanceMember updatePerformanceMember(Long userId, Long bandId, Long performanceId, PerformanceMember performanceMember);
 }
@@ -1,6 +1,7 @@
 package com.rv.band_manager.Service;
 
 import org.springframework.stereotype.Service;
+import com.rv.band_manager.DTO.PerformanceDetail;
 import com.rv.band_manager.Model.PerformanceMember;
 import com.rv.band_manager.Repository.PerformanceMemberRepository;
 
@@ -49,6 +50,19 @@ public class PerformanceMemberServiceImpl implements PerformanceMemberService {
         return performanceMemberRepository.findByPerformanceIdAndAvailability(performanceId, availability);
     }
 
+    /**
+     * Retrieves the performance dashboard rows for a user.
+     * Each row holds the performance, the band the user is rostered in, and the user's availability,
+     * and all rows are loaded in a single query rather than one query per band and performance.
+     *
+     * @param userId The ID of the user whose performances are being retrieved.
+     * @return A list of performance details for the user, ordered by performance date and time.
+     */
+    @Override
+    public List<PerformanceDetail> getPerformanceDetailsByUserId(Long userId) {
+        return performanceMemberRepository.findPerformanceDetailsByUserId(userId);
+    }
+
     /**
      * Saves a new PerformanceMember to the repository.
      *
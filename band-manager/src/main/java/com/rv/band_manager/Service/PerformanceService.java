@@ -1,5 +1,6 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.PerformanceSummary;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Model.Performance;
 
@@ -7,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 public interface PerformanceService {
-    List<Performance> getAllPerformances();
+    List<PerformanceSummary> getPerformanceSummaries();
     Optional<Performance> getPerformanceById(Long id);
     List<Performance> getPerformanceByBand(Long bandId);
     Performance savePerformance(Performance performance);
@@ -1,13 +1,18 @@
 package com.rv.band_manager.Service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.DTO.PerformanceSummary;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Repository.BandRepository;
 import com.rv.band_manager.Repository.MusicSetRepository;
 import com.rv.band_manager.Repository.PerformanceMemberRepository;
 import com.rv.band_manager.Repository.PerformanceRepository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -15,6 +20,7 @@ import java.util.Set;
  * Service implementation for managing performances and their associations with bands, music sets, and performance members.
  */
 @Service
+@Transactional(readOnly = true)
 public class PerformanceServiceImpl implements PerformanceService {
     private final PerformanceRepository performanceRepository;
     private final BandRepository bandRepository;
@@ -39,13 +45,17 @@ public class PerformanceServiceImpl implements PerformanceService {
     }
 
     /**
-     * Retrieves all performances from the performance repository.
+     * Retrieves a summary of every performance with the titles of its playlist.
      *
-     * @return A list of all performances.
+     * @return A list of performance summaries in ID order.
      */
     @Override
-    public List<Performance> getAllPerformances() {
-        return performanceRepository.findAll();
+    public List<PerformanceSummary> getPerformanceSummaries() {
+        Map<Long, PerformanceSummary> summaries = new LinkedHashMap<>();
+        for (PerformanceSummary row : performanceRepository.findSummaryRows()) {
+            summaries.merge(row.getId(), row, PerformanceSummary::withMusicSetTitles);
+        }
+        return new ArrayList<>(summaries.values());
     }
 
     /**
@@ -76,6 +86,7 @@ public class PerformanceServiceImpl implements PerformanceService {
      * @param performance The performance to save.
      * @return The saved performance.
      */
+    @Transactional
     @Override
     public Performance savePerformance(Performance performance) {
         return performanceRepository.save(performance);
@@ -89,6 +100,7 @@ public class PerformanceServiceImpl implements PerformanceService {
      * @return The updated performance.
      * @throws RuntimeException If the performance with the given ID is not found.
      */
+    @Transactional
     @Override
     public Performance updatePerformance(Long id, Performance updatedPerformance) {
         Optional<Performance> performanceOptional = performanceRepository.findById(id);
@@ -111,6 +123,7 @@ public class PerformanceServiceImpl implements PerformanceService {
      * @param id The ID of the performance to delete.
      * @throws RuntimeException If the performance with the given ID is not found.
      */
+    @Transactional
     @Override
     public void deletePerformance(Long id) {
         Optional<Performance> performanceOptional = performanceRepository.findById(id);
@@ -142,12 +155,13 @@ public class PerformanceServiceImpl implements PerformanceService {
 
     /**
      * Adds a band to a performance by associating the band with the performance.
-     * Also adds all users from the band as performance members for the performance.
+     * Also adds all users from the band who are not already rostered as performance members for the performance.
      *
      * @param performanceId The ID of the performance to which the band should be added.
      * @param bandId The ID of the band to add to the performance.
      * @throws IllegalArgumentException If the performance or band is not found.
      */
+    @Transactional
     @Override
     public void addBandToPerformance(Long performanceId, Long bandId) {
         Performance performance = performanceRepository.findById(performanceId)
@@ -161,20 +175,8 @@ public class PerformanceServiceImpl implements PerformanceService {
             performanceRepository.save(performance);
             bandRepository.save(band);
         }
-        Set<User> users = band.getUsers();
-
-        for (User user : users) {
-            PerformanceMemberId primaryKey = new PerformanceMemberId(user.getId(), bandId, performanceId);
-
-            if (!performanceMemberRepository.existsById(primaryKey)) {
-                PerformanceMember performanceMember = new PerformanceMember();
-                performanceMember.setPerformanceMemberId(primaryKey);
-                performanceMember.setUser(user);
-                performanceMember.setBand(band);
-                performanceMember.setPerformance(performance);
-                performanceMemberRepository.save(performanceMember);
-            }
-        }
+        //Roster every band member who is not on the performance yet in one set-based insert
+        performanceMemberRepository.insertMissingBandMembers(performanceId, bandId);
     }
 
     /**
@@ -185,6 +187,7 @@ public class PerformanceServiceImpl implements PerformanceService {
      * @param bandId The ID of the band to remove from the performance.
      * @throws IllegalArgumentException If the performance or band is not found.
      */
+    @Transactional
     @Override
     public void removeBandFromPerformance(Long performanceId, Long bandId) {
         Performance performance = performanceRepository.findById(performanceId)
@@ -196,11 +199,8 @@ public class PerformanceServiceImpl implements PerformanceService {
             performance.getBands().remove(band);
             band.getPerformances().remove(performance);
 
-            Set<User> users = band.getUsers();
-            for (User user : users) {
-                PerformanceMemberId primaryKey = new PerformanceMemberId(user.getId(), bandId, performanceId);
-                performanceMemberRepository.deleteById(primaryKey);
-            }
+            //Remove the band's roster for the performance in one bulk delete
+            performanceMemberRepository.deleteByPerformanceIdAndBandId(performanceId, bandId);
 
             performanceRepository.save(performance);
             bandRepository.save(band);
@@ -1,18 +1,24 @@
 package com.rv.band_manager.Service;
 
+import com.rv.band_manager.DTO.BandMemberImportResult;
+import com.rv.band_manager.DTO.UserSummary;
 import com.rv.band_manager.Model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
     Optional<User> getUserById(Long id);
+    User getUserReference(Long id);
     User register(User user) throws Exception;
     List<User> getAllUsers();
     List<User> getAllParents();
-    List<User> getUsersByBand(String bandName);
+    List<UserSummary> getUserSummariesByBand(String bandName);
     User addBandToUser(String userEmail, Long BandId);
     User addBandToUserByFullName(String fullName, Long BandId);
+    Map<String, BandMemberImportResult> addBandToUsersByEmail(Collection<String> emails, Long bandId);
     void deleteBandMember(Long userId, Long bandId);
     List<User> getCommitteeMembers();
     User promoteUserToCommitteeMember(String email);
@@ -3,6 +3,10 @@ package com.rv.band_manager.Service;
 import jakarta.validation.Valid;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.*;
+import org.springframework.transaction.annotation.Transactional;
+import com.rv.band_manager.DTO.BandMemberCandidate;
+import com.rv.band_manager.DTO.BandMemberImportResult;
+import com.rv.band_manager.DTO.UserSummary;
 import com.rv.band_manager.Model.*;
 import com.rv.band_manager.Model.Band;
 import com.rv.band_manager.Repository.BandRepository;
@@ -21,6 +25,7 @@ public class UserServiceImpl implements UserService{
     private final PasswordEncoder passwordEncoder;
     private final BandRepository bandRepository;
     private final ParentChildRelationshipRepository parentChildRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /**
      * Constructor for UserServiceImpl.
@@ -29,14 +34,17 @@ public class UserServiceImpl implements UserService{
      * @param passwordEncoder The encoder used to encrypt user passwords.
      * @param bandRepository The repository used to interact with the Band data.
      * @param parentChildRepository The repository used to interact with the ParentChildRelationship data.
+     * @param authenticatedUserCache The cache of authenticated principals, evicted when roles or bands change.
      */
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder, BandRepository bandRepository,
-                           ParentChildRelationshipRepository parentChildRepository) {
+                           ParentChildRelationshipRepository parentChildRepository,
+                           AuthenticatedUserCache authenticatedUserCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.bandRepository = bandRepository;
         this.parentChildRepository = parentChildRepository;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
     /**
@@ -49,6 +57,16 @@ public class UserServiceImpl implements UserService{
         return userRepository.findById(id);
     }
 
+    /**
+     * Retrieves a lazy reference to a user by their ID without querying the database.
+     *
+     * @param id The ID of the user.
+     * @return A reference to the user, loaded on first access to a field other than its ID.
+     */
+    public User getUserReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * Registers a new user by encoding their password and assigning them the member role.
      *
@@ -84,13 +102,13 @@ public class UserServiceImpl implements UserService{
     }
 
     /**
-     * Retrieves all users associated with a specific band by the band's name.
+     * Retrieves the members of a specific band by the band's name, with the columns the member lists render.
      *
      * @param bandName The name of the band.
-     * @return A list of users associated with the specified band.
+     * @return A list of summaries of the users associated with the specified band.
      */
-    public List<User> getUsersByBand(String bandName) {
-        return userRepository.findByBandName(bandName);
+    public List<UserSummary> getUserSummariesByBand(String bandName) {
+        return userRepository.findSummariesByBandName(bandName);
     }
 
     /**
@@ -101,6 +119,7 @@ public class UserServiceImpl implements UserService{
      * @return The updated user.
      * @throws RuntimeException If the user or band is not found.
      */
+    @Transactional
     public User addBandToUser(String userEmail, Long bandId) {
         Optional<User> userOpt = userRepository.findByEmailAndNoParent(userEmail);
         Optional<Band> bandOpt = bandRepository.findById(bandId);
@@ -110,7 +129,9 @@ public class UserServiceImpl implements UserService{
             Band band = bandOpt.get();
 
             user.getBands().add(band);
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            authenticatedUserCache.evict(savedUser.getEmail());
+            return savedUser;
         }
         else{
             throw new RuntimeException("User not found");
@@ -125,6 +146,7 @@ public class UserServiceImpl implements UserService{
      * @return The updated user.
      * @throws RuntimeException If the user or band is not found.
      */
+    @Transactional
     public User addBandToUserByFullName(String fullName, Long BandId) {
         Optional<User> userOptional = userRepository.findByFullName(fullName);
         Optional<Band> bandOptional = bandRepository.findById(BandId);
@@ -133,12 +155,47 @@ public class UserServiceImpl implements UserService{
             User user = userOptional.get();
             Band band = bandOptional.get();
             user.getBands().add(band);
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            authenticatedUserCache.evict(savedUser.getEmail());
+            return savedUser;
         } else {
             throw new RuntimeException("User not found");
         }
     }
 
+    /**
+     * Adds a chunk of users to a band by email, with one query to resolve the emails and one statement
+     * to insert the memberships, without loading the users or their bands.
+     *
+     * @param emails The email addresses of the users to add, at most one chunk of a bulk upload.
+     * @param bandId The ID of the band to add the users to.
+     * @return The result for each email, in no particular order.
+     */
+    @Transactional
+    public Map<String, BandMemberImportResult> addBandToUsersByEmail(Collection<String> emails, Long bandId) {
+        Map<String, BandMemberImportResult> results = new HashMap<>();
+        for (String email : emails) {
+            results.put(email, BandMemberImportResult.NOT_FOUND);
+        }
+        List<Long> newMemberIds = new ArrayList<>();
+        List<String> newMemberEmails = new ArrayList<>();
+        for (BandMemberCandidate candidate : userRepository.findBandMemberCandidates(results.keySet(), bandId)) {
+            if (Boolean.TRUE.equals(candidate.getMember())) {
+                results.put(candidate.getEmail(), BandMemberImportResult.ALREADY_MEMBER);
+            } else {
+                results.put(candidate.getEmail(), BandMemberImportResult.ADDED);
+                newMemberIds.add(candidate.getId());
+                newMemberEmails.add(candidate.getEmail());
+            }
+        }
+        if (!newMemberIds.isEmpty()) {
+            userRepository.addBandMembers(newMemberIds, bandId);
+            //The cached principals carry the band IDs, evicted together once the chunk commits
+            authenticatedUserCache.evictAll(newMemberEmails);
+        }
+        return results;
+    }
+
     /**
      * Removes a user from a specific band.
      *
@@ -146,6 +203,7 @@ public class UserServiceImpl implements UserService{
      * @param bandId The ID of the band from which to remove the user.
      * @throws RuntimeException If an error occurs during removal.
      */
+    @Transactional
     public void deleteBandMember(Long userId, Long bandId) {
         try {
             User user = userRepository.findById(userId)
@@ -157,6 +215,7 @@ public class UserServiceImpl implements UserService{
                 userBands.remove(band);
                 user.setBands(userBands);
                 userRepository.save(user);
+                authenticatedUserCache.evict(user.getEmail());
             }
         } catch (Exception e) {
             throw new RuntimeException("Error removing user from band: " + e.getMessage());
@@ -184,7 +243,9 @@ public class UserServiceImpl implements UserService{
         if(userOptional.isPresent()){
             User user = userOptional.get();
             user.getRoles().add(Role.COMMITTEE_MEMBER);
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            authenticatedUserCache.evict(savedUser.getEmail());
+            return savedUser;
         } else {
             throw new RuntimeException("User not found");
         }
@@ -202,6 +263,7 @@ public class UserServiceImpl implements UserService{
             User user = userOptional.get();
             user.getRoles().remove(Role.COMMITTEE_MEMBER);
             userRepository.save(user);
+            authenticatedUserCache.evict(user.getEmail());
         } else {
             throw new RuntimeException("User not found");
         }
@@ -225,6 +287,7 @@ public class UserServiceImpl implements UserService{
      * @throws IllegalArgumentException If either the parent or child is null.
      * @throws IllegalStateException If the child already has a parent assigned.
      */
+    @Transactional
     public void addParentToChild(User child, User parent) {
         // Validate input
         if (child == null || parent == null) {
@@ -234,6 +297,7 @@ public class UserServiceImpl implements UserService{
         parent.getRoles().add(Role.PARENT);
         // Ensure that the parent is persisted (saved)
         parent = userRepository.save(parent); // Save the parent if it's not already saved
+        authenticatedUserCache.evict(parent.getEmail());
         child.getRoles().add(Role.CHILD);
         // Ensure that the child is persisted (saved)
         child = userRepository.save(child); // Save the child if it's not already saved
@@ -287,11 +351,15 @@ public class UserServiceImpl implements UserService{
         Optional<User> userOpt = userRepository.findById(id);
         if(userOpt.isPresent()){
             User user = userOpt.get();
+            String email = user.getEmail();
             user.setFullName(updatedUser.getFullName());
             user.setEmail(updatedUser.getEmail());
             user.setPhoneNumber(updatedUser.getPhoneNumber());
             user.setPassword(updatedUser.getPassword());
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            //Evicted once saved, so a request in between cannot cache the old details again
+            authenticatedUserCache.evict(email);
+            return savedUser;
         }else{
             throw new RuntimeException("User not found");
         }
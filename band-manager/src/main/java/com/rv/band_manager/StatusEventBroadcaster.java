@@ -0,0 +1,177 @@
+package com.rv.band_manager;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rv.band_manager.Event.LoanStatusChanged;
+import com.rv.band_manager.Event.MusicOrderStatusChanged;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Component pushing music order and loan status changes to the members they concern over server-sent events.
+ * Events are queued per connection in a bounded buffer and written by a small pool of sender threads, so a
+ * slow client never holds up the request that made the change. A connection whose buffer fills up is closed,
+ * and the browser reconnects and reloads what it missed.
+ */
+@Component
+public class StatusEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(StatusEventBroadcaster.class);
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    /**
+     * Constructor for StatusEventBroadcaster.
+     *
+     * @param threads The number of threads writing events to the connections.
+     * @param bufferSize The number of events a connection may have waiting before it is closed.
+     * @param timeout How long a connection stays open before the browser has to reconnect.
+     */
+    public StatusEventBroadcaster(@Value("${status-events.threads}") int threads,
+                                  @Value("${status-events.buffer-size}") int bufferSize,
+                                  @Value("${status-events.timeout}") Duration timeout) {
+        AtomicInteger count = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "status-event-sender-" + count.incrementAndGet()));
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens an event stream for a user.
+     *
+     * @param userId The ID of the user the stream is for.
+     * @return The emitter to return from the request.
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(userId, emitter);
+        connections.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        emitter.onCompletion(connection::remove);
+        emitter.onTimeout(connection::remove);
+        emitter.onError(error -> connection.remove());
+        return emitter;
+    }
+
+    /**
+     * Pushes a music order status change to the order's owner once it has been committed.
+     *
+     * @param event The status change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMusicOrderStatusChanged(MusicOrderStatusChanged event) {
+        send(event.getOwnerId(), SseEmitter.event().name("music-order").data(event, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Pushes a loan being made or returned to the borrower once it has been committed.
+     *
+     * @param event The status change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanStatusChanged(LoanStatusChanged event) {
+        send(event.getUserId(), SseEmitter.event().name("loan").data(event, MediaType.APPLICATION_JSON));
+    }
+
+    //Keeps idle streams open through proxies and finds connections whose browser has gone away
+    @Scheduled(fixedRateString = "${status-events.heartbeat}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.offer(HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::close));
+        senders.shutdown();
+    }
+
+    //Builds the event once, as a builder appends to itself each time it is built, and queues it on each of the user's streams
+    private void send(Long userId, SseEmitter.SseEventBuilder event) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            Set<DataWithMediaType> data = event.build();
+            userConnections.forEach(connection -> connection.offer(data));
+        }
+    }
+
+    /**
+     * An open stream with the events waiting to be written to it. At most one sender drains it at a time.
+     */
+    private class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                log.debug("Closing the status event stream of user {}, {} events behind", userId, bufferSize);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                //The browser has gone away or the stream has already completed
+                remove();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            //An event may have arrived after the last poll but before draining was cleared
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            remove();
+            emitter.complete();
+        }
+
+        private void remove() {
+            buffer.clear();
+            connections.computeIfPresent(userId, (id, userConnections) -> {
+                userConnections.remove(this);
+                return userConnections.isEmpty() ? null : userConnections;
+            });
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.rv.band_manager;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Web configuration serving the static assets under content-hash versioned URLs.
+ * A versioned URL changes whenever the file does, so browsers may cache each one for a year without revalidating.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private static final String[] STATIC_ASSET_DIRECTORIES = {"css", "js", "images"};
+    /** Paths of the static assets, also excluded from the security filter chain in SecurityConfig */
+    public static final String[] STATIC_ASSET_PATHS = Arrays.stream(STATIC_ASSET_DIRECTORIES)
+            .map(directory -> "/" + directory + "/**")
+            .toArray(String[]::new);
+
+    private static final Duration ASSET_CACHE_DURATION = Duration.ofDays(365);
+
+    /**
+     * Registers the static asset handlers. The precompressed .br and .gz variants written by the
+     * doLast action of the processResources build task are served to browsers that accept them.
+     *
+     * @param registry the registry of resource handlers
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : STATIC_ASSET_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(CacheControl.maxAge(ASSET_CACHE_DURATION).cachePublic().immutable())
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * Filter rewriting the asset URLs built by templates, such as @{/js/items.js}, to their versioned form.
+     *
+     * @return the URL encoding filter
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
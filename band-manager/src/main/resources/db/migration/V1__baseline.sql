@@ -0,0 +1,237 @@
+-- Baseline schema of the entities in com.rv.band_manager.Model.
+-- Every statement is guarded, so the script both creates an empty database and brings a database
+-- that was created by Hibernate's ddl-auto=update and schema.sql up to the same schema.
+
+CREATE TABLE IF NOT EXISTS bands (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255),
+    password varchar(255),
+    phone_number varchar(255),
+    full_name varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id bigint NOT NULL REFERENCES users (id),
+    roles varchar(255) NOT NULL
+        CHECK (roles IN ('DIRECTOR', 'COMMITTEE_MEMBER', 'MEMBER', 'CHILD', 'PARENT')),
+    PRIMARY KEY (user_id, roles)
+);
+
+CREATE TABLE IF NOT EXISTS band_member (
+    user_id bigint NOT NULL REFERENCES users (id),
+    band_id bigint NOT NULL REFERENCES bands (id),
+    PRIMARY KEY (user_id, band_id)
+);
+
+CREATE TABLE IF NOT EXISTS parent_child_relationship (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    parent_id bigint NOT NULL REFERENCES users (id),
+    child_id bigint NOT NULL UNIQUE REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS performances (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    location varchar(255),
+    date date,
+    time time(6)
+);
+
+CREATE TABLE IF NOT EXISTS performance_bands (
+    band_id bigint NOT NULL REFERENCES bands (id),
+    performance_id bigint NOT NULL REFERENCES performances (id),
+    PRIMARY KEY (band_id, performance_id)
+);
+
+CREATE TABLE IF NOT EXISTS music_sets (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title varchar(255),
+    composer varchar(255),
+    arranger varchar(255),
+    suitable_for_training boolean NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS practice (
+    music_set_id bigint NOT NULL REFERENCES music_sets (id),
+    band_id bigint NOT NULL REFERENCES bands (id),
+    PRIMARY KEY (music_set_id, band_id)
+);
+
+CREATE TABLE IF NOT EXISTS performance_musics (
+    performance_id bigint NOT NULL REFERENCES performances (id),
+    music_set_id bigint NOT NULL REFERENCES music_sets (id),
+    PRIMARY KEY (performance_id, music_set_id)
+);
+
+CREATE TABLE IF NOT EXISTS music_parts (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    part_name varchar(255),
+    music_set_id bigint NOT NULL REFERENCES music_sets (id)
+);
+
+CREATE TABLE IF NOT EXISTS music_set_notes (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description varchar(255),
+    date date,
+    music_set_id bigint REFERENCES music_sets (id)
+);
+
+CREATE TABLE IF NOT EXISTS performance_members (
+    user_id bigint NOT NULL REFERENCES users (id),
+    band_id bigint NOT NULL REFERENCES bands (id),
+    performance_id bigint NOT NULL REFERENCES performances (id),
+    availability boolean,
+    PRIMARY KEY (user_id, band_id, performance_id)
+);
+
+CREATE TABLE IF NOT EXISTS instruments (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    serial_number varchar(255),
+    name varchar(255),
+    make varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS instrument_notes (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description varchar(255),
+    date date,
+    instrument_id bigint REFERENCES instruments (id)
+);
+
+CREATE TABLE IF NOT EXISTS instrument_loans (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint REFERENCES users (id),
+    instrument_id bigint REFERENCES instruments (id),
+    date date,
+    returned boolean
+);
+
+CREATE TABLE IF NOT EXISTS miscellaneous (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255),
+    make varchar(255),
+    quantity integer,
+    specific_for_instrument varchar(255),
+    on_loan_quantity integer DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS miscellaneous_loans (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint REFERENCES users (id),
+    miscellaneous_id bigint REFERENCES miscellaneous (id),
+    date date,
+    quantity integer,
+    returned boolean
+);
+
+CREATE TABLE IF NOT EXISTS music_orders (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id bigint NOT NULL REFERENCES users (id),
+    child_id bigint REFERENCES users (id),
+    date date,
+    status smallint
+);
+
+CREATE TABLE IF NOT EXISTS music_part_orders (
+    music_order_id bigint NOT NULL REFERENCES music_orders (id),
+    music_part_id bigint NOT NULL REFERENCES music_parts (id),
+    PRIMARY KEY (music_order_id, music_part_id)
+);
+
+-- Archive tier filled by ArchiveJob, rows keep the ID they had in the live table
+
+CREATE TABLE IF NOT EXISTS instrument_loans_archive (
+    id bigint PRIMARY KEY,
+    user_id bigint REFERENCES users (id),
+    instrument_id bigint REFERENCES instruments (id),
+    date date,
+    returned boolean,
+    archived_on date
+);
+
+CREATE TABLE IF NOT EXISTS miscellaneous_loans_archive (
+    id bigint PRIMARY KEY,
+    user_id bigint REFERENCES users (id),
+    miscellaneous_id bigint REFERENCES miscellaneous (id),
+    date date,
+    quantity integer,
+    returned boolean,
+    archived_on date
+);
+
+CREATE TABLE IF NOT EXISTS music_orders_archive (
+    id bigint PRIMARY KEY,
+    owner_id bigint NOT NULL REFERENCES users (id),
+    child_id bigint REFERENCES users (id),
+    date date,
+    status smallint,
+    archived_on date
+);
+
+CREATE TABLE IF NOT EXISTS music_part_orders_archive (
+    music_order_id bigint NOT NULL REFERENCES music_orders_archive (id),
+    music_part_id bigint NOT NULL REFERENCES music_parts (id),
+    PRIMARY KEY (music_order_id, music_part_id)
+);
+
+-- Databases created before the on-loan counter existed
+ALTER TABLE miscellaneous ADD COLUMN IF NOT EXISTS on_loan_quantity integer DEFAULT 0;
+UPDATE miscellaneous SET on_loan_quantity = 0 WHERE on_loan_quantity IS NULL;
+
+-- Backfill the on-loan counter of items that still have un-returned loans from before the counter existed
+UPDATE miscellaneous m
+SET on_loan_quantity = s.total
+FROM (
+    SELECT miscellaneous_id, SUM(quantity) AS total
+    FROM miscellaneous_loans
+    WHERE returned = false
+    GROUP BY miscellaneous_id
+) s
+WHERE s.miscellaneous_id = m.id
+AND m.on_loan_quantity = 0;
+
+-- Music order statuses stored as text before OrderStatus, converted to its smallint codes
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'music_orders' AND column_name = 'status'
+               AND data_type = 'character varying') THEN
+        ALTER TABLE music_orders ALTER COLUMN status TYPE smallint
+            USING CASE status WHEN 'NOT_READY' THEN 0 WHEN 'READY' THEN 1 WHEN 'FULFILLED' THEN 2 END;
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'music_orders_archive' AND column_name = 'status'
+               AND data_type = 'character varying') THEN
+        ALTER TABLE music_orders_archive ALTER COLUMN status TYPE smallint
+            USING CASE status WHEN 'NOT_READY' THEN 0 WHEN 'READY' THEN 1 WHEN 'FULFILLED' THEN 2 END;
+    END IF;
+END
+$$;
+
+-- At most one un-returned loan per instrument, so concurrent loan requests cannot double-loan an instrument
+CREATE UNIQUE INDEX IF NOT EXISTS ux_instrument_loans_active_instrument
+    ON instrument_loans (instrument_id)
+    WHERE returned = false;
+
+-- Keyset pages of the loan histories on the items page, newest first
+CREATE INDEX IF NOT EXISTS ix_instrument_loans_returned_date_id
+    ON instrument_loans (returned, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_miscellaneous_loans_returned_date_id
+    ON miscellaneous_loans (returned, date DESC, id DESC);
+
+-- History lookups on the archive tables
+CREATE INDEX IF NOT EXISTS ix_instrument_loans_archive_user ON instrument_loans_archive (user_id);
+CREATE INDEX IF NOT EXISTS ix_instrument_loans_archive_date_id ON instrument_loans_archive (date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_miscellaneous_loans_archive_user ON miscellaneous_loans_archive (user_id);
+CREATE INDEX IF NOT EXISTS ix_miscellaneous_loans_archive_date_id ON miscellaneous_loans_archive (date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_music_orders_archive_owner ON music_orders_archive (owner_id);
+CREATE INDEX IF NOT EXISTS ix_music_orders_archive_child ON music_orders_archive (child_id);
+
+-- Per-user and per-child order pages by status, and the committee order lists by status and date
+CREATE INDEX IF NOT EXISTS ix_music_orders_owner_status ON music_orders (owner_id, status);
+CREATE INDEX IF NOT EXISTS ix_music_orders_child_status ON music_orders (child_id, status);
+CREATE INDEX IF NOT EXISTS ix_music_orders_status_date ON music_orders (status, date);
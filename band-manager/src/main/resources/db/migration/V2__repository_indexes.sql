@@ -0,0 +1,22 @@
+-- Indexes for the repository lookups that only had the primary and foreign key indexes Hibernate created
+
+-- Login and principal lookup (UserRepository.findByEmailAndNoParent). Children share their parent's email
+-- and "no parent" lives in parent_child_relationship, so this is a plain index on email.
+CREATE INDEX IF NOT EXISTS ix_users_email ON users (email);
+
+-- Adding members and parents by name (UserRepository.findByFullName)
+CREATE INDEX IF NOT EXISTS ix_users_full_name ON users (full_name);
+
+-- Instruments are looked up and identified by serial number (InstrumentRepository.findBySerialNumber)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_instruments_serial_number ON instruments (serial_number);
+
+-- Miscellaneous items are identified by name and make (MiscellaneousRepository.findByNameAndMake)
+CREATE INDEX IF NOT EXISTS ix_miscellaneous_name_make ON miscellaneous (name, make);
+
+-- Members and music of a band, the primary keys of these join tables lead with the other side
+CREATE INDEX IF NOT EXISTS ix_band_member_band ON band_member (band_id);
+CREATE INDEX IF NOT EXISTS ix_practice_band ON practice (band_id);
+
+-- Available and unavailable players of a performance (PerformanceMemberRepository.findByPerformanceIdAndAvailability)
+CREATE INDEX IF NOT EXISTS ix_performance_members_performance_availability
+    ON performance_members (performance_id, availability);
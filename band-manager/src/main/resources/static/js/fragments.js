@@ -0,0 +1,20 @@
+// Sends an update asking for the re-rendered section of the page rather than a message, and swaps it in for the
+// element with the given ID. The section shows the outcome in its own alert, so the rest of the page is not reloaded.
+function updateFragment(targetId, request, errorPrefix){
+    $.ajax($.extend({}, request, {
+        headers: {"X-Fragment": "true"},
+        dataType: "html",
+        success: function(html){
+            $("#" + targetId).replaceWith(html);
+        },
+        error: function(xhr){
+            // A failed update is rendered into the section too, other failures such as an expired session are not
+            const section = $($.parseHTML(xhr.responseText || "")).filter("#" + targetId);
+            if (section.length) {
+                $("#" + targetId).replaceWith(section);
+            } else {
+                alert(errorPrefix + xhr.responseText);
+            }
+        }
+    }));
+}
@@ -31,7 +31,7 @@ function updateInstrument(id){
         alert("Make cannot be empty!");
         return;
     }
-    $.ajax({
+    updateFragment('instrumentDetails', {
         url: '/committee-member/instrument/' + id,
         type: 'PUT',
         contentType: 'application/json',
@@ -41,15 +41,7 @@ function updateInstrument(id){
             serialNumber: serialNumber,
             make: make,
         }),
-
-        success: function(response){
-            alert(response);
-            window.location.href = "/committee-member/items";
-        },
-        error: function(xhr){
-            alert("Error updating instrument: " + xhr.responseText);
-        }
-    });
+    }, "Error updating instrument: ");
 }
 
 function deleteInstrument(id){
@@ -70,7 +62,8 @@ function deleteInstrument(id){
 
 
 $(document).ready(function(){
-    $('#updateInstrumentButton').click(function(event){
+    // Bound on the document, the buttons are replaced along with the details section
+    $(document).on('click', '#updateInstrumentButton', function(event){
 
         event.preventDefault();
         const id = $(this).data('id');
@@ -78,7 +71,7 @@ $(document).ready(function(){
             updateInstrument(id);
         }
     });
-    $('#deleteInstrumentButton').click(function(event){
+    $(document).on('click', '#deleteInstrumentButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         if(confirmDeletion()){
@@ -0,0 +1,38 @@
+// Loads a page of rows into a table body, replacing its "Load more" row
+function loadRows(tbody, url){
+    fetch(url)
+        .then(function(response){
+            if (!response.ok) {
+                throw new Error(response.statusText);
+            }
+            return response.text();
+        })
+        .then(function(html){
+            const loadMore = tbody.querySelector("tr.load-more");
+            if (loadMore) {
+                loadMore.remove();
+            }
+            // The fragment is a whole <tbody>, keep only its rows
+            const template = document.createElement("template");
+            template.innerHTML = "<table>" + html + "</table>";
+            template.content.querySelectorAll("tbody > tr").forEach(function(row){
+                tbody.appendChild(row);
+            });
+        })
+        .catch(function(error){
+            alert("Error loading items: " + error.message);
+        });
+}
+
+document.addEventListener("DOMContentLoaded", function(){
+    document.querySelectorAll("tbody[data-rows-url]").forEach(function(tbody){
+        loadRows(tbody, tbody.dataset.rowsUrl);
+        tbody.addEventListener("click", function(event){
+            const button = event.target.closest("tr.load-more button");
+            if (button) {
+                button.disabled = true;
+                loadRows(tbody, button.dataset.url);
+            }
+        });
+    });
+});
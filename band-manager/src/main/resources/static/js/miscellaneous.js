@@ -32,7 +32,7 @@ function updateMiscellaneous(id){
         alert("Make cannot be empty!");
         return;
     }
-    $.ajax({
+    updateFragment('miscellaneousDetails', {
         url: '/committee-member/miscellaneous/' + id,
         type: 'PUT',
         contentType: 'application/json',
@@ -43,15 +43,7 @@ function updateMiscellaneous(id){
             make: make,
             specificForInstrument: specificForInstrument,
         }),
-
-        success: function(response){
-            alert(response);
-            window.location.href = "/committee-member/items";
-        },
-        error: function(xhr){
-            alert("Error updating miscellaneous item: " + xhr.responseText);
-        }
-    });
+    }, "Error updating miscellaneous item: ");
 }
 
 function deleteMiscellaneous(id){
@@ -72,7 +64,8 @@ function deleteMiscellaneous(id){
 
 
 $(document).ready(function(){
-    $('#updateMiscellaneousButton').click(function(event){
+    // Bound on the document, the buttons are replaced along with the details section
+    $(document).on('click', '#updateMiscellaneousButton', function(event){
 
         event.preventDefault();
         const id = $(this).data('id');
@@ -80,7 +73,7 @@ $(document).ready(function(){
             updateMiscellaneous(id);
         }
     });
-    $('#deleteMiscellaneousButton').click(function(event){
+    $(document).on('click', '#deleteMiscellaneousButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         if(confirmDeletion()){
@@ -15,7 +15,7 @@ function updateMusicPart(musicPartId, musicSetId){
         alert("Part name cannot be empty!");
         return; // Stop further execution if part name is empty
     }
-    $.ajax({
+    updateFragment('musicPartDetails', {
         url: '/committee-member/music-set/' + musicSetId + '/music-part/' + musicPartId,
         type: 'PUT',
         contentType: 'application/json',
@@ -23,20 +23,13 @@ function updateMusicPart(musicPartId, musicSetId){
             id: musicPartId,
             partName: partName,
         }),
-
-        success: function(response){
-            alert(response);
-            window.location.href = "/committee-member/music";
-        },
-        error: function(xhr){
-            alert("Error updating music part: " + xhr.responseText);
-        }
-    });
+    }, "Error updating music part: ");
 
 }
 
 $(document).ready(function(){
-    $('#updateMusicPartButton').click(function(event){
+    // Bound on the document, the button is replaced along with the details section
+    $(document).on('click', '#updateMusicPartButton', function(event){
         event.preventDefault();
         const musicPartId = $(this).data('musicpartid');
         const musicSetId = $(this).data('musicsetid');
@@ -32,7 +32,7 @@ function updateMusicSet(id){
         alert("Composer cannot be empty!");
         return;
     }
-    $.ajax({
+    updateFragment('musicSetDetails', {
         url: '/committee-member/music-set/' + id,
         type: 'PUT',
         contentType: 'application/json',
@@ -43,15 +43,7 @@ function updateMusicSet(id){
             arranger: arranger,
             suitableForTraining: suitableForTraining
         }),
-
-        success: function(response){
-            alert(response);
-            window.location.href = "/committee-member/music";
-        },
-        error: function(xhr){
-            alert("Error updating music set: " + xhr.responseText);
-        }
-    });
+    }, "Error updating music set: ");
 }
 
 function deleteMusicSet(id){
@@ -91,7 +83,8 @@ function storageMusicSet(id){
 
 
 $(document).ready(function(){
-    $('#updateMusicSetButton').click(function(event){
+    // Bound on the document, the buttons are replaced along with the details section
+    $(document).on('click', '#updateMusicSetButton', function(event){
 
         event.preventDefault();
         const id = $(this).data('id');
@@ -99,14 +92,14 @@ $(document).ready(function(){
             updateMusicSet(id);
         }
     });
-    $('#deleteMusicSetButton').click(function(event){
+    $(document).on('click', '#deleteMusicSetButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         if(confirmDeletion()){
             deleteMusicSet(id);
         }
     });
-    $('#deletePracticeButton').click(function(event){
+    $(document).on('click', '#deletePracticeButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         if(confirmStorage()){
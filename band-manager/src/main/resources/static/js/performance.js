@@ -31,7 +31,7 @@ function updatePerformance(id){
         alert("Location cannot be empty!");
         return;
     }
-    $.ajax({
+    updateFragment('performanceDetails', {
         url: '/committee-member/performance/' + id +
             '?seniorBand=' + seniorBand +
             '&trainingBand=' + trainingBand +
@@ -44,14 +44,7 @@ function updatePerformance(id){
             date: date,
             time: time,
         }),
-        success: function(response){
-            alert(response);
-            window.location.href = "/committee-member/performance";
-        },
-        error: function(xhr){
-            alert("Error updating performance: " + xhr.responseText);
-        }
-    });
+    }, "Error updating performance: ");
 }
 
 function deletePerformance(id){
@@ -71,44 +64,31 @@ function deletePerformance(id){
 
 function updateChildAvailability(userId, bandId, performanceId) {
     const availability = $('#availability').is(':checked');
-    $.ajax({
+    updateFragment('performanceDetails', {
         url: '/performance/' + userId + '/' + bandId + '/' + performanceId,
         type: 'PUT',
         contentType: 'application/json',
         data: JSON.stringify({
             availability: availability
         }),
-        success: function (response){
-            alert(response);
-            window.location.href = "/child/" + userId + "/performance"
-        },
-        error: function (xhr){
-            alert("Error updating availability: " + xhr.responseText);
-        }
-    });
+    }, "Error updating availability: ");
 }
 
 function updateAvailability(userId, bandId, performanceId) {
     const availability = $('#availability').is(':checked');
-    $.ajax({
+    updateFragment('performanceDetails', {
         url: '/performance/' + userId + '/' + bandId + '/' + performanceId,
         type: 'PUT',
         contentType: 'application/json',
         data: JSON.stringify({
             availability: availability
         }),
-        success: function (response){
-            alert(response);
-            window.location.href = "/performance"
-        },
-        error: function (xhr){
-            alert("Error updating availability: " + xhr.responseText);
-        }
-    });
+    }, "Error updating availability: ");
 }
 
 $(document).ready(function(){
-    $('#updatePerformanceButton').click(function(event){
+    // Bound on the document, the buttons are replaced along with the details section
+    $(document).on('click', '#updatePerformanceButton', function(event){
 
         event.preventDefault();
         const id = $(this).data('id');
@@ -116,14 +96,14 @@ $(document).ready(function(){
             updatePerformance(id);
         }
     });
-    $('#deletePerformanceButton').click(function(event){
+    $(document).on('click', '#deletePerformanceButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         if(confirmDeletion()){
             deletePerformance(id);
         }
     });
-    $('#updateChildPerformanceMemberButton').click(function(event){
+    $(document).on('click', '#updateChildPerformanceMemberButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         const [userId, bandId, performanceId] = id.split('_');
@@ -131,7 +111,7 @@ $(document).ready(function(){
             updateChildAvailability(userId, bandId, performanceId);
         }
     });
-    $('#updatePerformanceMemberButton').click(function(event){
+    $(document).on('click', '#updatePerformanceMemberButton', function(event){
         event.preventDefault();
         const id = $(this).data('id');
         const [userId, bandId, performanceId] = id.split('_');
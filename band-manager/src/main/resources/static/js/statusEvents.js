@@ -0,0 +1,72 @@
+// Builds a table row from a link and the text of its cells, matching the rows rendered by the page
+function buildRow(id, href, cells){
+    const row = document.createElement("tr");
+    row.className = "table-light";
+    const header = document.createElement("th");
+    header.scope = "col";
+    const link = document.createElement("a");
+    link.href = href;
+    link.textContent = id;
+    header.appendChild(link);
+    row.appendChild(header);
+    cells.forEach(function(text){
+        const cell = document.createElement("td");
+        cell.textContent = text;
+        row.appendChild(cell);
+    });
+    return row;
+}
+
+// Moves a music order to the table of its new status
+function updateMusicOrder(order){
+    const current = document.querySelector("tr[data-music-order-id='" + order.id + "']");
+    if (current) {
+        current.remove();
+    }
+    const tbody = document.querySelector("tbody[data-order-status='" + order.status + "']");
+    if (tbody) {
+        const row = buildRow(order.id, "/music-order/" + order.id,
+            [order.date, order.status, String(order.childOrder)]);
+        row.dataset.musicOrderId = order.id;
+        tbody.appendChild(row);
+    }
+}
+
+// Adds a new loan to the table of its kind, or removes a returned one
+function updateLoan(update){
+    const loan = update.loan;
+    const current = document.querySelector("tr[data-loan-type='" + update.loanType + "'][data-loan-id='" + loan.id + "']");
+    if (current) {
+        current.remove();
+    }
+    const tbody = document.querySelector("tbody[data-loan-type='" + update.loanType + "']");
+    if (tbody && !loan.returned) {
+        const row = update.loanType === "INSTRUMENT"
+            ? buildRow(loan.id, "instrument-loan/" + loan.id, [loan.name, loan.date, String(loan.returned)])
+            : buildRow(loan.id, "miscellaneous-loan/" + loan.id,
+                [loan.name, loan.make, String(loan.quantity), loan.date, String(loan.returned)]);
+        row.dataset.loanType = update.loanType;
+        row.dataset.loanId = loan.id;
+        tbody.appendChild(row);
+    }
+}
+
+document.addEventListener("DOMContentLoaded", function(){
+    const source = new EventSource("/status-events");
+    let dropped = false;
+    source.addEventListener("music-order", function(event){
+        updateMusicOrder(JSON.parse(event.data));
+    });
+    source.addEventListener("loan", function(event){
+        updateLoan(JSON.parse(event.data));
+    });
+    // The browser reconnects by itself, but changes sent while the stream was down are lost
+    source.addEventListener("error", function(){
+        dropped = true;
+    });
+    source.addEventListener("open", function(){
+        if (dropped) {
+            window.location.reload();
+        }
+    });
+});
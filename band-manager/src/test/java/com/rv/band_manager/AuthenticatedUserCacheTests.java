@@ -0,0 +1,85 @@
+package com.rv.band_manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.rv.band_manager.Model.*;
+import com.rv.band_manager.Repository.*;
+import com.rv.band_manager.Service.AuthenticatedUserCache;
+import com.rv.band_manager.Service.CustomerUserDetails;
+import com.rv.band_manager.Service.UserService;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the principal cache against a request racing a membership change, one at a time or from a
+ * bulk upload: a principal reloaded while the change is still uncommitted carries the old bands, so
+ * the cached entry must only be evicted once the change commits.
+ */
+@SpringBootTest
+class AuthenticatedUserCacheTests {
+	@Autowired
+	private AuthenticatedUserCache authenticatedUserCache;
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private BandRepository bandRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private TestUsers users;
+	private Band band;
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		users = new TestUsers(userRepository, jdbcTemplate);
+		band = new Band();
+		band.setName("Cache test band " + users.suffix());
+		band = bandRepository.save(band);
+		email = users.save("Member", Role.MEMBER).getEmail();
+	}
+
+	@AfterEach
+	void tearDown() {
+		users.deleteAll();
+		jdbcTemplate.update("DELETE FROM bands WHERE id = ?", band.getId());
+	}
+
+	@Test
+	void principalReloadedBeforeTheCommitIsEvicted() {
+		authenticatedUserCache.get(email);
+		transactionTemplate.executeWithoutResult(status -> {
+			userService.addBandToUser(email, band.getId());
+			//Another request resolving the member now reads the committed state, without the band
+			assertEquals(Set.of(), CompletableFuture.supplyAsync(this::bandIds).join());
+		});
+		assertEquals(Set.of(band.getId()), bandIds());
+	}
+
+	@Test
+	void principalReloadedBeforeTheImportCommitIsEvicted() {
+		authenticatedUserCache.get(email);
+		transactionTemplate.executeWithoutResult(status -> {
+			userService.addBandToUsersByEmail(List.of(email), band.getId());
+			assertEquals(Set.of(), CompletableFuture.supplyAsync(this::bandIds).join());
+		});
+		assertEquals(Set.of(band.getId()), bandIds());
+	}
+
+	private Set<Long> bandIds() {
+		return authenticatedUserCache.get(email).map(CustomerUserDetails::getBandIds).orElseThrow();
+	}
+}
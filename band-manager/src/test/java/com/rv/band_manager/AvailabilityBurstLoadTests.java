@@ -0,0 +1,141 @@
+package com.rv.band_manager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import com.rv.band_manager.Model.*;
+import com.rv.band_manager.Repository.*;
+import com.rv.band_manager.Service.PerformanceService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Proves the connection pool defaults against a performance night: every rostered member sets their
+ * availability at the same moment. Requests go through MockMvc rather than Tomcat, so the burst lands
+ * on the pool without the server's own thread limit in front of it. Run with ./gradlew loadTest.
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest
+@AutoConfigureMockMvc
+class AvailabilityBurstLoadTests {
+	private static final int CONCURRENT_MEMBERS = 200;
+	private static final String POOL = "band-manager";
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private BandRepository bandRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PerformanceRepository performanceRepository;
+	@Autowired
+	private PerformanceService performanceService;
+	@Value("${spring.datasource.hikari.connection-timeout}")
+	private long connectionTimeout;
+
+	private TestUsers users;
+	private final List<User> members = new ArrayList<>();
+	private Band band;
+	private Long performanceId;
+
+	@BeforeEach
+	void setUp() {
+		users = new TestUsers(userRepository, jdbcTemplate);
+		band = new Band();
+		band.setName("Load test band " + users.suffix());
+		band = bandRepository.save(band);
+
+		List<User> built = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_MEMBERS; i++) {
+			User user = users.build("Member " + i, Role.MEMBER);
+			user.getBands().add(band);
+			built.add(user);
+		}
+		members.addAll(userRepository.saveAll(built));
+
+		Performance performance = new Performance();
+		performance.setLocation("Load test hall " + users.suffix());
+		performance.setDate(LocalDate.now().plusDays(1));
+		performance.setTime(LocalTime.NOON);
+		performanceId = performanceRepository.save(performance).getId();
+		performanceService.addBandToPerformance(performanceId, band.getId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		users.deleteAll();
+		jdbcTemplate.update("DELETE FROM performance_bands WHERE performance_id = ?", performanceId);
+		jdbcTemplate.update("DELETE FROM performances WHERE id = ?", performanceId);
+		jdbcTemplate.update("DELETE FROM bands WHERE id = ?", band.getId());
+	}
+
+	@Test
+	void availabilityBurstIsServedByThePool() throws Exception {
+		double timeoutsBefore = meterRegistry.get("hikaricp.connections.timeout").tag("pool", POOL).counter().count();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> responses = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_MEMBERS)) {
+			for (User member : members) {
+				responses.add(executor.submit(() -> {
+					start.await();
+					return setAvailable(member);
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> response : responses) {
+				assertEquals(200, response.get(connectionTimeout * 2, TimeUnit.MILLISECONDS));
+			}
+		}
+
+		Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", POOL).timer();
+		double timeouts = meterRegistry.get("hikaricp.connections.timeout").tag("pool", POOL).counter().count();
+		assertEquals(timeoutsBefore, timeouts, "Requests timed out waiting for a connection");
+		assertTrue(acquire.max(TimeUnit.MILLISECONDS) < connectionTimeout,
+				"Slowest connection acquisition took " + acquire.max(TimeUnit.MILLISECONDS) + "ms");
+		assertEquals(CONCURRENT_MEMBERS, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM performance_members WHERE performance_id = ? AND availability = TRUE",
+				Integer.class, performanceId));
+	}
+
+	//Sends the member's own availability update and returns the response status
+	private int setAvailable(User member) throws Exception {
+		return mockMvc.perform(put("/performance/{userId}/{bandId}/{performanceId}",
+						member.getId(), band.getId(), performanceId)
+						.with(user(member.getEmail()).roles(Role.MEMBER.name()))
+						.with(csrf())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"availability\": true}"))
+				.andReturn().getResponse().getStatus();
+	}
+}
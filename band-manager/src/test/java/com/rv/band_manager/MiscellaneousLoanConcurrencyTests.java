@@ -0,0 +1,125 @@
+package com.rv.band_manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.rv.band_manager.Model.*;
+import com.rv.band_manager.Repository.*;
+import com.rv.band_manager.Service.MiscellaneousLoanService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the on-loan counter of a miscellaneous item: loans requested at the same moment for more
+ * than the item's stock must reserve exactly the stock, reject the rest, and never count more on loan
+ * than the item's quantity, even while the loans are still being made.
+ */
+@SpringBootTest
+class MiscellaneousLoanConcurrencyTests {
+	private static final int STOCK = 10;
+	private static final int CONCURRENT_LOANS = 30;
+
+	@Autowired
+	private MiscellaneousLoanService miscellaneousLoanService;
+	@Autowired
+	private MiscellaneousRepository miscellaneousRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private TestUsers users;
+	private final List<User> borrowers = new ArrayList<>();
+	private Miscellaneous miscellaneous;
+
+	@BeforeEach
+	void setUp() {
+		users = new TestUsers(userRepository, jdbcTemplate);
+		miscellaneous = new Miscellaneous();
+		miscellaneous.setName("Valve oil " + users.suffix());
+		miscellaneous.setMake("Concurrency test");
+		miscellaneous.setQuantity(STOCK);
+		miscellaneous = miscellaneousRepository.save(miscellaneous);
+
+		List<User> built = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_LOANS; i++) {
+			built.add(users.build("Borrower " + i, Role.MEMBER));
+		}
+		borrowers.addAll(userRepository.saveAll(built));
+	}
+
+	@AfterEach
+	void tearDown() {
+		users.deleteAll();
+		jdbcTemplate.update("DELETE FROM miscellaneous WHERE id = ?", miscellaneous.getId());
+	}
+
+	@Test
+	void concurrentLoansReserveExactlyTheStock() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean loaning = new AtomicBoolean(true);
+		AtomicInteger maxOnLoan = new AtomicInteger();
+		List<Future<?>> loans = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOANS + 1)) {
+			//Samples the counter while the loans race, so an overshoot rolled back later is still caught
+			Future<?> sampler = executor.submit(() -> {
+				start.await();
+				while (loaning.get()) {
+					maxOnLoan.accumulateAndGet(onLoanQuantity(), Math::max);
+				}
+				return null;
+			});
+			for (User borrower : borrowers) {
+				loans.add(executor.submit(() -> {
+					start.await();
+					return miscellaneousLoanService.createMiscellaneousLoan(borrower, miscellaneous, 1);
+				}));
+			}
+			start.countDown();
+
+			int made = 0;
+			int rejected = 0;
+			for (Future<?> loan : loans) {
+				try {
+					loan.get(30, TimeUnit.SECONDS);
+					made++;
+				} catch (ExecutionException e) {
+					assertInstanceOf(IllegalStateException.class, e.getCause());
+					rejected++;
+				}
+			}
+			loaning.set(false);
+			sampler.get(30, TimeUnit.SECONDS);
+
+			assertEquals(STOCK, made);
+			assertEquals(CONCURRENT_LOANS - STOCK, rejected);
+		}
+
+		assertEquals(STOCK, onLoanQuantity());
+		assertEquals(STOCK, jdbcTemplate.queryForObject(
+				"SELECT COALESCE(SUM(quantity), 0) FROM miscellaneous_loans WHERE miscellaneous_id = ? AND returned = FALSE",
+				Integer.class, miscellaneous.getId()));
+		assertTrue(maxOnLoan.get() <= STOCK, "On-loan quantity reached " + maxOnLoan.get() + " of " + STOCK);
+	}
+
+	private int onLoanQuantity() {
+		return jdbcTemplate.queryForObject("SELECT on_loan_quantity FROM miscellaneous WHERE id = ?",
+				Integer.class, miscellaneous.getId());
+	}
+}
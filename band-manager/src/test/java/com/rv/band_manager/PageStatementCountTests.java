@@ -0,0 +1,219 @@
+package com.rv.band_manager;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import com.rv.band_manager.Model.*;
+import com.rv.band_manager.Repository.*;
+import com.rv.band_manager.Service.PerformanceService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the fetch plans of the main views: a page must issue the same number of statements
+ * however many rows it lists, so a lazy load per row fails the build.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class PageStatementCountTests {
+	private static final int INITIAL_ROWS = 2;
+	private static final int GROWN_ROWS = 5;
+	//Live orders, archived orders and parts still needed
+	private static final long MUSIC_PAGE_QUERIES = 3;
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private BandRepository bandRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PerformanceRepository performanceRepository;
+	@Autowired
+	private MusicSetRepository musicSetRepository;
+	@Autowired
+	private MusicPartRepository musicPartRepository;
+	@Autowired
+	private MusicOrderRepository musicOrderRepository;
+	@Autowired
+	private PerformanceService performanceService;
+
+	private TestUsers users;
+	private Band band;
+	private MusicSet musicSet;
+	private User owner;
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		users = new TestUsers(userRepository, jdbcTemplate);
+		band = new Band();
+		band.setName("Test band " + users.suffix());
+		band = bandRepository.save(band);
+
+		musicSet = new MusicSet();
+		musicSet.setTitle("Test set " + users.suffix());
+		musicSet.setComposer("Test composer");
+		musicSet.getBands().add(band);
+		musicSet = musicSetRepository.save(musicSet);
+
+		owner = addMember(Role.COMMITTEE_MEMBER);
+		email = owner.getEmail();
+	}
+
+	@AfterEach
+	void tearDown() {
+		users.deleteAll();
+		jdbcTemplate.update("DELETE FROM performance_musics WHERE music_set_id = ?", musicSet.getId());
+		jdbcTemplate.update("DELETE FROM performance_bands WHERE band_id = ?", band.getId());
+		jdbcTemplate.update("DELETE FROM performances WHERE location = ?", location());
+		jdbcTemplate.update("DELETE FROM practice WHERE music_set_id = ?", musicSet.getId());
+		jdbcTemplate.update("DELETE FROM music_parts WHERE music_set_id = ?", musicSet.getId());
+		jdbcTemplate.update("DELETE FROM music_sets WHERE id = ?", musicSet.getId());
+		jdbcTemplate.update("DELETE FROM bands WHERE id = ?", band.getId());
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	void memberPerformancesDoNotLoadPerRow() throws Exception {
+		addPerformances(INITIAL_ROWS);
+		long initial = countStatements(get("/performance"));
+		addPerformances(GROWN_ROWS - INITIAL_ROWS);
+		assertEquals(initial, countStatements(get("/performance")));
+	}
+
+	@Test
+	void committeePerformancesDoNotLoadPerRow() throws Exception {
+		addPerformances(INITIAL_ROWS);
+		long initial = countStatements(get("/committee-member/performance"));
+		addPerformances(GROWN_ROWS - INITIAL_ROWS);
+		assertEquals(initial, countStatements(get("/committee-member/performance")));
+	}
+
+	@Test
+	void performancePlayersDoNotLoadPerRow() throws Exception {
+		Long performanceId = addPerformances(1);
+		for (int i = 1; i < INITIAL_ROWS; i++) {
+			addMember(Role.MEMBER);
+		}
+		rosterAvailable(performanceId);
+		long initial = countStatements(get("/committee-member/performance/{id}", performanceId));
+		for (int i = INITIAL_ROWS; i < GROWN_ROWS; i++) {
+			addMember(Role.MEMBER);
+		}
+		rosterAvailable(performanceId);
+		assertEquals(initial, countStatements(get("/committee-member/performance/{id}", performanceId)));
+	}
+
+	@Test
+	void musicSetPartsDoNotLoadPerRow() throws Exception {
+		addMusicParts(INITIAL_ROWS);
+		long initial = countStatements(get("/committee-member/music-set/{id}", musicSet.getId()));
+		addMusicParts(GROWN_ROWS - INITIAL_ROWS);
+		assertEquals(initial, countStatements(get("/committee-member/music-set/{id}", musicSet.getId())));
+	}
+
+	@Test
+	void memberMusicLoadsOrdersInOneQuery() throws Exception {
+		addMusicOrders(INITIAL_ROWS);
+		long initial = countStatements(get("/music"));
+		addMusicOrders(GROWN_ROWS - INITIAL_ROWS);
+		assertEquals(initial, countStatements(get("/music")));
+		assertEquals(MUSIC_PAGE_QUERIES, render(get("/music")).getQueryExecutionCount());
+	}
+
+	private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+		return render(request).getPrepareStatementCount();
+	}
+
+	//Renders the page once to warm the principal cache, then returns the statistics of a cold second-level cache render
+	private Statistics render(MockHttpServletRequestBuilder request) throws Exception {
+		RequestPostProcessor principal = user(email).roles(Role.MEMBER.name(), Role.COMMITTEE_MEMBER.name());
+		mockMvc.perform(request.with(principal)).andExpect(status().isOk());
+		Statistics statistics = sessionFactory().getStatistics();
+		sessionFactory().getCache().evictAllRegions();
+		statistics.clear();
+		mockMvc.perform(request.with(principal)).andExpect(status().isOk());
+		return statistics;
+	}
+
+	private User addMember(Role role) {
+		User user = users.build("Member", Role.MEMBER, role);
+		user.getBands().add(band);
+		return userRepository.save(user);
+	}
+
+	//Adds performances playing the test music set, rosters the band and returns the ID of the last one
+	private Long addPerformances(int count) {
+		Long performanceId = null;
+		for (int i = 0; i < count; i++) {
+			Performance performance = new Performance();
+			performance.setLocation(location());
+			performance.setDate(LocalDate.now().plusDays(i + 1));
+			performance.setTime(LocalTime.NOON);
+			performance.getMusicSets().add(musicSet);
+			performanceId = performanceRepository.save(performance).getId();
+			performanceService.addBandToPerformance(performanceId, band.getId());
+		}
+		return performanceId;
+	}
+
+	private void rosterAvailable(Long performanceId) {
+		performanceService.addBandToPerformance(performanceId, band.getId());
+		jdbcTemplate.update("UPDATE performance_members SET availability = TRUE WHERE performance_id = ?",
+				performanceId);
+	}
+
+	private void addMusicParts(int count) {
+		for (int i = 0; i < count; i++) {
+			MusicPart musicPart = new MusicPart();
+			musicPart.setPartName("Part " + i);
+			musicPart.setMusicSet(musicSet);
+			musicPartRepository.save(musicPart);
+		}
+	}
+
+	//Adds orders of the test user cycling through every status, each for a new part of the test music set
+	private void addMusicOrders(int count) {
+		OrderStatus[] statuses = OrderStatus.values();
+		for (int i = 0; i < count; i++) {
+			MusicPart musicPart = new MusicPart();
+			musicPart.setPartName("Ordered part " + i);
+			musicPart.setMusicSet(musicSet);
+			MusicOrder musicOrder = new MusicOrder();
+			musicOrder.setOwner(owner);
+			musicOrder.setDate(LocalDate.now());
+			musicOrder.setStatus(statuses[i % statuses.length]);
+			musicOrder.getMusicParts().add(musicPartRepository.save(musicPart));
+			musicOrderRepository.save(musicOrder);
+		}
+	}
+
+	private String location() {
+		return "Test hall " + users.suffix();
+	}
+
+	private SessionFactory sessionFactory() {
+		return entityManagerFactory.unwrap(SessionFactory.class);
+	}
+}
@@ -0,0 +1,79 @@
+package com.rv.band_manager;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.rv.band_manager.Model.Role;
+import com.rv.band_manager.Model.User;
+import com.rv.band_manager.Repository.UserRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Users created by a test against the shared database. Each instance gives its users emails ending in
+ * its own random suffix, and deleteAll removes them with every row referencing them, so a test only
+ * cleans up the rows of its own bands, music sets, performances and items.
+ */
+class TestUsers {
+	private static final String USER_IDS = "SELECT id FROM users WHERE email LIKE ?";
+	//Every table referencing users, ordered so no row is deleted while another still references it
+	private static final List<String> USER_ROWS = List.of(
+			"DELETE FROM music_part_orders WHERE music_order_id IN "
+					+ "(SELECT id FROM music_orders WHERE owner_id IN (%1$s) OR child_id IN (%1$s))",
+			"DELETE FROM music_orders WHERE owner_id IN (%1$s) OR child_id IN (%1$s)",
+			"DELETE FROM music_part_orders_archive WHERE music_order_id IN "
+					+ "(SELECT id FROM music_orders_archive WHERE owner_id IN (%1$s) OR child_id IN (%1$s))",
+			"DELETE FROM music_orders_archive WHERE owner_id IN (%1$s) OR child_id IN (%1$s)",
+			"DELETE FROM instrument_loans WHERE user_id IN (%1$s)",
+			"DELETE FROM instrument_loans_archive WHERE user_id IN (%1$s)",
+			"DELETE FROM miscellaneous_loans WHERE user_id IN (%1$s)",
+			"DELETE FROM miscellaneous_loans_archive WHERE user_id IN (%1$s)",
+			"DELETE FROM performance_members WHERE user_id IN (%1$s)",
+			"DELETE FROM parent_child_relationship WHERE parent_id IN (%1$s) OR child_id IN (%1$s)",
+			"DELETE FROM band_member WHERE user_id IN (%1$s)",
+			"DELETE FROM user_roles WHERE user_id IN (%1$s)",
+			"DELETE FROM users WHERE id IN (%1$s)");
+	//The cached principal is built like a login's, which needs a password
+	private static final String PASSWORD = "password";
+
+	private final UserRepository userRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+	private int created;
+
+	TestUsers(UserRepository userRepository, JdbcTemplate jdbcTemplate) {
+		this.userRepository = userRepository;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	//Returns the random suffix of this instance, for tests naming their own rows after it
+	String suffix() {
+		return suffix;
+	}
+
+	//Builds an unsaved user with a unique email and the given roles
+	User build(String fullName, Role... roles) {
+		User user = new User();
+		user.setFullName(fullName);
+		user.setEmail("user" + created++ + "-" + suffix + "@example.com");
+		user.setPassword(PASSWORD);
+		user.getRoles().addAll(Arrays.asList(roles));
+		return user;
+	}
+
+	//Saves a user with a unique email and the given roles
+	User save(String fullName, Role... roles) {
+		return userRepository.save(build(fullName, roles));
+	}
+
+	//Deletes the users of this instance and every row referencing them
+	void deleteAll() {
+		String email = "%-" + suffix + "@example.com";
+		for (String statement : USER_ROWS) {
+			String sql = statement.formatted(USER_IDS);
+			Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+			Arrays.fill(args, email);
+			jdbcTemplate.update(sql, args);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.rv.band_manager;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import com.rv.band_manager.Model.*;
+import com.rv.band_manager.Repository.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Guards the virtual thread mode: rendering the member pages on virtual threads must never pin
+ * the carrier thread while in the connection pool, the JDBC driver or Hibernate, or a slow query
+ * would hold a platform thread and the mode would lose its point.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@AutoConfigureMockMvc
+class VirtualThreadPinningTests {
+	private static final int CONCURRENT_REQUESTS = 50;
+	private static final List<String> JDBC_PATH = List.of("com.zaxxer.hikari.", "org.postgresql.", "org.hibernate.");
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private UserRepository userRepository;
+
+	private TestUsers users;
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		users = new TestUsers(userRepository, jdbcTemplate);
+		email = users.save("Member", Role.MEMBER).getEmail();
+	}
+
+	@AfterEach
+	void tearDown() {
+		users.deleteAll();
+	}
+
+	@Test
+	void memberPagesDoNotPinOnTheJdbcPath() throws Exception {
+		List<String> pinnedFrames = new ArrayList<>();
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.onEvent("jdk.VirtualThreadPinned", event -> {
+				String frame = jdbcFrame(event);
+				if (frame != null) {
+					synchronized (pinnedFrames) {
+						pinnedFrames.add(frame);
+					}
+				}
+			});
+			recording.startAsync();
+			renderConcurrently("/music", "/performance", "/loans");
+			recording.stop();
+		}
+		assertTrue(pinnedFrames.isEmpty(), "Pinned on the JDBC path at " + pinnedFrames);
+	}
+
+	//Renders each page many times at once, each request on its own virtual thread as Tomcat would in this mode
+	private void renderConcurrently(String... paths) throws Exception {
+		List<Future<Integer>> responses = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+				for (String path : paths) {
+					responses.add(executor.submit(() -> mockMvc.perform(get(path)
+							.with(user(email).roles(Role.MEMBER.name())))
+							.andReturn().getResponse().getStatus()));
+				}
+			}
+			for (Future<Integer> response : responses) {
+				assertEquals(200, response.get());
+			}
+		}
+	}
+
+	//Returns the first frame of the pinned stack inside the JDBC path, or null if the pin happened elsewhere
+	private static String jdbcFrame(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return null;
+		}
+		for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+			String type = frame.getMethod().getType().getName();
+			if (JDBC_PATH.stream().anyMatch(type::startsWith)) {
+				return type + "." + frame.getMethod().getName();
+			}
+		}
+		return null;
+	}
+}